@@ -0,0 +1,111 @@
+package com.test.bench;
+
+import com.test.model.CustomerData;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+
+/**
+ * Schema and synthetic rows of the embedded benchmark database.
+ * Make class final as it's not designed for extension.
+ */
+public final class BenchDatabase {
+    /**
+     * The classpath resource (re)creating the tables used by the benchmarks.
+     */
+    public static final String SCHEMA_FILE = "bench-schema.sql";
+
+    /**
+     * Number of customers sharing each last name, i.e. rows returned by getByIndexLastname.
+     */
+    public static final int CUSTOMERS_PER_LAST_NAME = 10;
+
+    private static final long BASE_MILLIS = Timestamp.valueOf("2024-01-01 08:00:00").getTime();
+
+    private BenchDatabase() {
+        throw new IllegalStateException("Utility class BenchDatabase should not be instantiated.");
+    }
+
+    /**
+     * Drops and recreates the benchmark tables.
+     * @param dataSource The embedded database.
+     * @throws IOException if {@value #SCHEMA_FILE} cannot be read.
+     * @throws SQLException if a statement fails.
+     */
+    public static void createSchema(DataSource dataSource) throws IOException, SQLException {
+        String script;
+        try (InputStream input = BenchDatabase.class.getClassLoader().getResourceAsStream(SCHEMA_FILE)) {
+            if (input == null) {
+                throw new IOException("Unable to find " + SCHEMA_FILE + " in the classpath.");
+            }
+            script = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            for (String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                if (!sql.isBlank()) {
+                    stmt.execute(sql);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the e-mail address of the row of the given index.
+     * @param index The 0-based row index.
+     * @return A unique e-mail address.
+     */
+    public static String emailOf(int index) {
+        return "user" + index + "@example.com";
+    }
+
+    /**
+     * Builds a synthetic customer.
+     * @param customerId The customer identifier (at least 1).
+     * @return The customer, with a unique code and a last name shared by
+     *         {@value #CUSTOMERS_PER_LAST_NAME} consecutive identifiers.
+     */
+    public static CustomerData customerOf(int customerId) {
+        long millis = BASE_MILLIS + customerId * 60_000L;
+        return new CustomerData(customerId, customerCodeOf(customerId), 1 + customerId % 3,
+            lastNameOf(customerId), new Timestamp(millis), new Date(millis), new Time(millis));
+    }
+
+    /**
+     * Builds the customers {@code firstId} to {@code firstId + count - 1}.
+     * @param firstId The first customer identifier.
+     * @param count The number of customers.
+     * @return The customers, in identifier order.
+     */
+    public static List<CustomerData> customers(int firstId, int count) {
+        List<CustomerData> customers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            customers.add(customerOf(firstId + i));
+        }
+        return customers;
+    }
+
+    /**
+     * @param customerId The customer identifier.
+     * @return The unique customer code of the customer.
+     */
+    public static String customerCodeOf(int customerId) {
+        return "C" + customerId;
+    }
+
+    /**
+     * @param customerId The customer identifier.
+     * @return The last name of the customer.
+     */
+    public static String lastNameOf(int customerId) {
+        return "Name" + (customerId / CUSTOMERS_PER_LAST_NAME);
+    }
+}
@@ -0,0 +1,120 @@
+package com.test.bench;
+
+import com.test.dao.CustomerDao;
+import com.test.dao.DaoContext;
+import com.test.model.CustomerData;
+import com.test.model.CustomerIndexLastnameData;
+import com.test.model.CustomerPkData;
+import com.test.model.CustomerUniqueCustomercodeData;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput and latency of the generated {@code CustomerDao} against the embedded database.
+ * <p>
+ * The table holds {@code rows} customers; lookups pick a random existing key on each call.
+ * Every benchmark is measured in throughput and in sample time mode, which reports the
+ * latency percentiles. Add {@code -prof gc} for the allocation rate per operation:
+ * </p>
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar CustomerDaoBenchmark -prof gc
+ * </pre>
+ * Rows inserted by the insert benchmarks are removed before each iteration, so that every
+ * iteration runs against the same table size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomerDaoBenchmark {
+    @Param({"10000"})
+    private int rows;
+
+    @Param({"100"})
+    private int batchSize;
+
+    private DataSource dataSource;
+    private CustomerDao dao;
+
+    /**
+     * Next identifier given to an inserted customer, above the preloaded ones.
+     */
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void createTable() throws Exception {
+        dataSource = DaoContext.getDataSource();
+        BenchDatabase.createSchema(dataSource);
+        dao = new CustomerDao(dataSource);
+        dao.insertBatch(BenchDatabase.customers(1, rows));
+    }
+
+    @Setup(Level.Iteration)
+    public void removeInsertedRows() throws Exception {
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("DELETE FROM `customer` WHERE `customerId` > ?")) {
+            pstmt.setInt(1, rows);
+            pstmt.executeUpdate();
+        }
+        nextId.set(rows + 1);
+    }
+
+    @Benchmark
+    public void insert() throws Exception {
+        dao.insert(BenchDatabase.customerOf(nextId.getAndIncrement()));
+    }
+
+    @Benchmark
+    public int[] insertBatch() throws Exception {
+        List<CustomerData> batch = BenchDatabase.customers(nextId.getAndAdd(batchSize), batchSize);
+        return dao.insertBatch(batch);
+    }
+
+    @Benchmark
+    public CustomerData[] getByPk() throws Exception {
+        return dao.get(new CustomerPkData(randomId()));
+    }
+
+    @Benchmark
+    public CustomerData getByUnique() throws Exception {
+        return dao.getByUniqueCustomercode(new CustomerUniqueCustomercodeData(BenchDatabase.customerCodeOf(randomId())));
+    }
+
+    @Benchmark
+    public CustomerData[] getByIndex() throws Exception {
+        return dao.getByIndexLastname(new CustomerIndexLastnameData(BenchDatabase.lastNameOf(randomId())));
+    }
+
+    @Benchmark
+    public boolean existsHit() throws Exception {
+        return dao.existsByUniqueCustomercode(new CustomerUniqueCustomercodeData(BenchDatabase.customerCodeOf(randomId())));
+    }
+
+    @Benchmark
+    public boolean existsMiss() throws Exception {
+        return dao.existsByUniqueCustomercode(new CustomerUniqueCustomercodeData(BenchDatabase.customerCodeOf(-randomId())));
+    }
+
+    private int randomId() {
+        return 1 + ThreadLocalRandom.current().nextInt(rows);
+    }
+}
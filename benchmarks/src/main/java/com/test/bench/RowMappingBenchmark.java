@@ -0,0 +1,102 @@
+package com.test.bench;
+
+import com.test.dao.CustomerDao;
+import com.test.dao.DaoContext;
+import com.test.model.CustomerData;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of mapping result rows to data objects, without the query itself.
+ * <p>
+ * A scrollable result set over {@code rows} customers is read from the start on each call,
+ * either by position with type-specific getters (as the generated mapRowToXxxData methods do)
+ * or by column name with {@code getObject(name, type)} (as they did before).
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMappingBenchmark {
+    @Param({"100"})
+    private int rows;
+
+    private Connection conn;
+    private PreparedStatement pstmt;
+    private ResultSet rs;
+
+    @Setup(Level.Trial)
+    public void openResultSet() throws Exception {
+        DataSource dataSource = DaoContext.getDataSource();
+        BenchDatabase.createSchema(dataSource);
+        new CustomerDao(dataSource).insertBatch(BenchDatabase.customers(1, rows));
+
+        conn = dataSource.getConnection();
+        pstmt = conn.prepareStatement("SELECT `customerId`, `customerCode`, `civilityId`, `lastName`, `updated`, `createdDate`, `createdTime` FROM `customer`",
+            ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        rs = pstmt.executeQuery();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeResultSet() throws Exception {
+        DaoContext.closeQuietly(new SQLException("Error closing the result set."), rs, pstmt, conn);
+    }
+
+    @Benchmark
+    public void byPosition(Blackhole blackhole) throws SQLException {
+        rs.beforeFirst();
+        while (rs.next()) {
+            CustomerData data = new CustomerData();
+            int c1 = rs.getInt(1);
+            data.setCustomerid(rs.wasNull() ? null : c1);
+            data.setCustomercode(rs.getString(2));
+            int c3 = rs.getInt(3);
+            data.setCivilityid(rs.wasNull() ? null : c3);
+            data.setLastname(rs.getString(4));
+            data.setUpdated(rs.getTimestamp(5));
+            data.setCreateddate(rs.getDate(6));
+            data.setCreatedtime(rs.getTime(7));
+            blackhole.consume(data);
+        }
+    }
+
+    @Benchmark
+    public void byName(Blackhole blackhole) throws SQLException {
+        rs.beforeFirst();
+        while (rs.next()) {
+            CustomerData data = new CustomerData();
+            data.setCustomerid(rs.getObject("customerId", Integer.class));
+            data.setCustomercode(rs.getObject("customerCode", String.class));
+            data.setCivilityid(rs.getObject("civilityId", Integer.class));
+            data.setLastname(rs.getObject("lastName", String.class));
+            data.setUpdated(rs.getObject("updated", Timestamp.class));
+            data.setCreateddate(rs.getObject("createdDate", Date.class));
+            data.setCreatedtime(rs.getObject("createdTime", Time.class));
+            blackhole.consume(data);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.test.bench;
+
+import com.test.dao.DaoConnectionPool;
+import com.test.dao.DaoContext;
+import com.test.dao.EmailDao;
+import com.test.model.EmailData;
+import com.test.model.EmailUniqueEmailData;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.sql.DataSource;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Load test of the generated DAOs called from virtual threads.
+ * <p>
+ * Creates the {@link BenchDatabase} schema in the embedded database configured by the module's
+ * database.properties, inserts {@code loadtest.rows} e-mails (default 10000), then starts
+ * {@code loadtest.threads} virtual threads (default 10000) which all wait for a common start
+ * signal and run {@code loadtest.lookups} {@code EmailDao.getByUniqueEmail} calls each
+ * (default 10) on random e-mails. The report gives the throughput, the latency percentiles,
+ * the pool statistics and the {@code jdk.VirtualThreadPinned} events recorded with JFR while
+ * the load ran, with a zero threshold so that every pinned park is counted.
+ * </p>
+ * The process exits with status 1 if a lookup failed or, when {@code loadtest.failOnPinning}
+ * is true, if a virtual thread was pinned.
+ */
+public final class VirtualThreadLoadTest {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private VirtualThreadLoadTest() {
+        throw new IllegalStateException("Utility class VirtualThreadLoadTest should not be instantiated.");
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = Integer.getInteger("loadtest.rows", 10_000);
+        int threads = Integer.getInteger("loadtest.threads", 10_000);
+        int lookups = Integer.getInteger("loadtest.lookups", 10);
+        boolean failOnPinning = Boolean.getBoolean("loadtest.failOnPinning");
+
+        DataSource dataSource = DaoContext.getDataSource();
+        BenchDatabase.createSchema(dataSource);
+        EmailDao dao = new EmailDao(dataSource);
+        populate(dao, rows);
+
+        // Warm up the JIT, the pool and the statement caches before measuring.
+        runLoad(dao, rows, Math.min(threads, 1_000), lookups);
+
+        Path jfrFile = Files.createTempFile("loadtest-", ".jfr");
+        LoadResult result;
+        try (Recording recording = new Recording()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.start();
+            result = runLoad(dao, rows, threads, lookups);
+            recording.stop();
+            recording.dump(jfrFile);
+        }
+        Map<String, Integer> pinnedFrames = new LinkedHashMap<>();
+        int pinned = countPinnedEvents(jfrFile, pinnedFrames);
+        Files.deleteIfExists(jfrFile);
+
+        report(result, threads, lookups, dataSource, pinned, pinnedFrames);
+        if (result.failures > 0 || (failOnPinning && pinned > 0)) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Runs one lookup campaign.
+     * @param dao The DAO to call.
+     * @param rows The number of e-mails in the table.
+     * @param threads The number of virtual threads to start.
+     * @param lookups The number of lookups per thread.
+     * @return The timings of the campaign.
+     */
+    private static LoadResult runLoad(EmailDao dao, int rows, int threads, int lookups) throws InterruptedException {
+        long[] latencies = new long[threads * lookups];
+        AtomicInteger failures = new AtomicInteger();
+        AtomicReference<Exception> firstFailure = new AtomicReference<>();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        long elapsed;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < threads; t++) {
+                int offset = t * lookups;
+                executor.execute(() -> {
+                    ready.countDown();
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < lookups; i++) {
+                        String email = BenchDatabase.emailOf(random.nextInt(rows));
+                        long begin = System.nanoTime();
+                        try {
+                            EmailData found = dao.getByUniqueEmail(new EmailUniqueEmailData(email));
+                            if (found == null || !email.equals(found.getEmail())) {
+                                throw new IllegalStateException("Wrong row for " + email + ": " + found);
+                            }
+                        } catch (SQLException | RuntimeException e) {
+                            failures.incrementAndGet();
+                            firstFailure.compareAndSet(null, e);
+                        }
+                        latencies[offset + i] = System.nanoTime() - begin;
+                    }
+                });
+            }
+            ready.await();
+            long begin = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+            elapsed = System.nanoTime() - begin;
+        }
+        if (firstFailure.get() != null) {
+            System.err.println("First lookup failure:");
+            firstFailure.get().printStackTrace();
+        }
+        return new LoadResult(elapsed, latencies, failures.get());
+    }
+
+    private static void populate(EmailDao dao, int rows) throws SQLException {
+        List<EmailData> emails = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            emails.add(new EmailData(i + 1, BenchDatabase.emailOf(i)));
+        }
+        dao.insertBatch(emails);
+    }
+
+    /**
+     * Counts the pinning events of a recording.
+     * @param jfrFile The recording.
+     * @param topFrames Receives the number of events per top application frame.
+     * @return The number of pinning events.
+     */
+    private static int countPinnedEvents(Path jfrFile, Map<String, Integer> topFrames) throws IOException {
+        int count = 0;
+        for (RecordedEvent event : RecordingFile.readAllEvents(jfrFile)) {
+            if (!PINNED_EVENT.equals(event.getEventType().getName())) {
+                continue;
+            }
+            count++;
+            topFrames.merge(describeTopFrame(event.getStackTrace()), 1, Integer::sum);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first frame of a stack trace outside of the JDK, i.e. the code that pinned.
+     */
+    private static String describeTopFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "(no stack trace)";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName() + " line " + frame.getLineNumber();
+            }
+        }
+        return "(JDK frames only)";
+    }
+
+    private static void report(LoadResult result, int threads, int lookups, DataSource dataSource, int pinned, Map<String, Integer> pinnedFrames) {
+        long[] sorted = result.latencies.clone();
+        Arrays.sort(sorted);
+        double seconds = result.elapsedNanos / 1e9;
+
+        System.out.printf("Virtual threads: %d x %d getByUniqueEmail%n", threads, lookups);
+        System.out.printf("Elapsed: %.3f s, throughput: %.0f lookups/s, failures: %d%n",
+            seconds, sorted.length / seconds, result.failures);
+        System.out.printf("Latency (ms): p50 %.3f, p90 %.3f, p99 %.3f, max %.3f%n",
+            percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+        if (dataSource instanceof DaoConnectionPool pool) {
+            System.out.printf("Pool: active %d, idle %d, statement cache hits %d, misses %d%n",
+                pool.getActiveCount(), pool.getIdleCount(), pool.getStatementCacheHits(), pool.getStatementCacheMisses());
+        }
+        System.out.printf("%s events: %d%n", PINNED_EVENT, pinned);
+        pinnedFrames.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .limit(10)
+            .forEach(e -> System.out.printf("  %6d  %s%n", e.getValue(), e.getKey()));
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * Timings of one lookup campaign.
+     */
+    private record LoadResult(long elapsedNanos, long[] latencies, int failures) {
+    }
+}
@@ -0,0 +1,241 @@
+package com.test.generator;
+
+import com.test.generator.util.DdlParser.ColumnDefinition;
+import com.test.generator.util.DdlParser.IndexDefinition;
+import com.test.generator.util.DdlParser.TableDefinition;
+import com.test.generator.util.InfoHolder.ColumnInfo;
+import com.test.generator.util.Name;
+import com.test.generator.util.Template;
+import com.test.generator.util.Type;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of the generator steps on synthetic schemas of {@code tables} tables (see
+ * {@link SyntheticSchema}), with the metadata held in memory: no database is needed.
+ * <p>
+ * Each operation covers the whole schema: every table, column or index name goes through
+ * the measured step once, so that scores compare across schema sizes. {@code generateSchema}
+ * times, as a single shot per iteration, the complete generation of the POJOs and DAOs of all
+ * tables: rendering and writing every source file. The output directory is emptied before each
+ * iteration, so no file is found identical and left untouched; the previous run's manifest is
+ * never read, so no table is skipped as unchanged.
+ * </p>
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar GeneratorBenchmark -prof gc
+ * java -jar benchmarks/target/benchmarks.jar GeneratorBenchmark.generateSchema -p settings=generator.threads=8,generator.virtualThreads=true
+ * </pre>
+ * {@code replacePlaceholdersRegex} renders the same templates with the regular expression
+ * matcher the generator used before templates were compiled, as a reference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{([^}]+)\\}");
+
+    @Param({"10", "1000", "10000"})
+    private int tables;
+
+    /**
+     * Generator settings of the generateSchema benchmark ({@code generator.*} properties).
+     */
+    @Param({"generator.threads=1"})
+    private String settings;
+
+    private List<String> tableNames;
+    private List<String> columnNames;
+    private List<List<String>> indexColumnNames;
+    private int[] sqlTypes;
+    private List<List<ColumnInfo>> tableColumns;
+    private List<Map<String, String>> templateValues;
+
+    private DaoGenerator generator;
+    private Template template;
+    private Path outputDir;
+    private PrintStream stdout;
+
+    @Setup(Level.Trial)
+    public void loadSchema() throws IOException {
+        Map<String, TableDefinition> schema = SyntheticSchema.tables(tables);
+
+        Properties props = new Properties();
+        props.load(new StringReader(settings.replace(',', '\n')));
+        outputDir = Files.createTempDirectory("generator-bench-");
+        generator = new DaoGenerator(props, outputDir);
+        tableNames = generator.loadTableDefinitions(schema);
+        template = generator.loadTemplate("dao_method_get_unique.template");
+
+        columnNames = new ArrayList<>();
+        indexColumnNames = new ArrayList<>();
+        tableColumns = new ArrayList<>();
+        templateValues = new ArrayList<>();
+        List<Integer> types = new ArrayList<>();
+        for (TableDefinition table : schema.values()) {
+            List<String> pkNames = table.indexes.stream().filter(i -> "PRIMARY".equals(i.name)).findFirst()
+                .map(i -> i.columnNames).orElse(List.of());
+            List<ColumnInfo> columns = new ArrayList<>();
+            for (ColumnDefinition column : table.columns) {
+                int sqlType = Type.fromMySqlType(column.dataType, column.columnType);
+                columnNames.add(column.name);
+                types.add(sqlType);
+                columns.add(new ColumnInfo(column.name, Name.toFieldName(column.name), Type.toJavaType(sqlType), sqlType,
+                    pkNames.contains(column.name), column.nullable));
+            }
+            tableColumns.add(columns);
+            for (IndexDefinition index : table.indexes) {
+                indexColumnNames.add(index.columnNames);
+            }
+            templateValues.add(uniqueLookupValues(table, columns));
+        }
+        sqlTypes = types.stream().mapToInt(Integer::intValue).toArray();
+
+        // The generator reports every table on standard output.
+        stdout = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Removes the files generated by the previous iteration, so that generateSchema writes
+     * every file again instead of comparing it with an identical one.
+     */
+    @Setup(Level.Iteration)
+    public void clearOutput() throws IOException {
+        deleteFiles(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteOutput() throws IOException {
+        System.setOut(stdout);
+        deleteFiles(true);
+    }
+
+    private void deleteFiles(boolean includingOutputDir) throws IOException {
+        try (Stream<Path> files = Files.walk(outputDir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                if (includingOutputDir || !file.equals(outputDir)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builds the values of the get-by-unique method template for the first unique index of a table.
+     */
+    private Map<String, String> uniqueLookupValues(TableDefinition table, List<ColumnInfo> columns) {
+        IndexDefinition unique = table.indexes.stream().filter(i -> i.unique && !"PRIMARY".equals(i.name)).findFirst().orElseThrow();
+        List<ColumnInfo> indexColumns = columns.stream().filter(c -> unique.columnNames.contains(c.dbName)).toList();
+        String classNamePrefix = Name.toClassName(table.name);
+        String suffix = Name.generateMethodSuffix(unique.columnNames);
+
+        Map<String, String> values = new HashMap<>();
+        values.put("tableName", table.name);
+        values.put("dataPojoName", classNamePrefix + "Data");
+        values.put("indexPojoName", classNamePrefix + "Unique" + suffix + "Data");
+        values.put("methodNameSuffix", suffix);
+        values.put("indexName", unique.name);
+        values.put("indexColumnsList", String.join(", ", unique.columnNames));
+        values.put("mapRowMethodName", "mapRowTo" + classNamePrefix + "Data");
+        values.put("sqlQuery", "SELECT * FROM `" + table.name + "` WHERE `" + String.join("` = ? AND `", unique.columnNames) + "` = ?");
+        values.put("parameter_setting_block", generator.generateParameterSettingBlock(indexColumns, "uniqueData", "\t\t\t"));
+        values.put("projectionNote", "");
+        return values;
+    }
+
+    @Benchmark
+    public void toClassName(Blackhole blackhole) {
+        for (String tableName : tableNames) {
+            blackhole.consume(Name.toClassName(tableName));
+        }
+        for (String columnName : columnNames) {
+            blackhole.consume(Name.toClassName(columnName));
+        }
+    }
+
+    @Benchmark
+    public void generateMethodSuffix(Blackhole blackhole) {
+        for (List<String> columns : indexColumnNames) {
+            blackhole.consume(Name.generateMethodSuffix(columns));
+        }
+    }
+
+    @Benchmark
+    public void toJavaType(Blackhole blackhole) {
+        for (int sqlType : sqlTypes) {
+            blackhole.consume(Type.toJavaType(sqlType));
+        }
+    }
+
+    @Benchmark
+    public void replacePlaceholders(Blackhole blackhole) {
+        for (Map<String, String> values : templateValues) {
+            blackhole.consume(generator.replacePlaceholders(template, values));
+        }
+    }
+
+    @Benchmark
+    public void replacePlaceholdersRegex(Blackhole blackhole) {
+        String source = template.source();
+        for (Map<String, String> values : templateValues) {
+            Matcher matcher = PLACEHOLDER_PATTERN.matcher(source);
+            StringBuilder sb = new StringBuilder();
+            while (matcher.find()) {
+                matcher.appendReplacement(sb, Matcher.quoteReplacement(values.getOrDefault(matcher.group(1), "")));
+            }
+            matcher.appendTail(sb);
+            blackhole.consume(sb.toString());
+        }
+    }
+
+    @Benchmark
+    public void generateParameterSettingBlock(Blackhole blackhole) {
+        for (List<ColumnInfo> columns : tableColumns) {
+            blackhole.consume(generator.generateParameterSettingBlock(columns, "data", "\t\t\t"));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 3)
+    public List<String> generateSchema() throws Exception {
+        List<String> failedTables = generator.generateTables(tableNames);
+        if (!failedTables.isEmpty()) {
+            throw new IllegalStateException("Generation failed for " + failedTables);
+        }
+        return failedTables;
+    }
+}
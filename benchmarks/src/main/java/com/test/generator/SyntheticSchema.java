@@ -0,0 +1,86 @@
+package com.test.generator;
+
+import com.test.generator.util.DdlParser;
+import com.test.generator.util.DdlParser.TableDefinition;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.Map;
+
+/**
+ * Synthetic MySQL schemas of any size for the generator benchmarks, held in memory.
+ * <p>
+ * Tables cycle through a few shapes modelled on the aogo schema: every table has a
+ * single-column primary key, a unique code, a nullable foreign key index and a composite
+ * index; one table in three has a composite primary key instead and one in four a TEXT
+ * column. Names mix words and underscores so that name conversions do real work.
+ * </p>
+ * Make class final as it's not designed for extension.
+ */
+public final class SyntheticSchema {
+    private static final String[] WORDS = {
+        "customer", "order", "invoice", "address", "product", "stock", "payment", "shipment"
+    };
+
+    private SyntheticSchema() {
+        throw new IllegalStateException("Utility class SyntheticSchema should not be instantiated.");
+    }
+
+    /**
+     * Builds the DDL script of a schema.
+     *
+     * @param tableCount The number of tables.
+     * @return The CREATE TABLE statements, in the dump format read by {@link DdlParser}.
+     */
+    public static String ddl(int tableCount) {
+        StringBuilder sb = new StringBuilder(tableCount * 700);
+        for (int i = 0; i < tableCount; i++) {
+            appendTable(sb, i);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Builds and parses a schema.
+     *
+     * @param tableCount The number of tables.
+     * @return The table definitions, by name, in definition order.
+     */
+    public static Map<String, TableDefinition> tables(int tableCount) {
+        try {
+            return DdlParser.parse(new StringReader(ddl(tableCount)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void appendTable(StringBuilder sb, int index) {
+        String word = WORDS[index % WORDS.length];
+        String other = WORDS[(index / WORDS.length + 1) % WORDS.length];
+        String table = word + "_" + other + "_" + index;
+        boolean compositePk = index % 3 == 2;
+        boolean withText = index % 4 == 3;
+
+        sb.append("CREATE TABLE `").append(table).append("` (\n");
+        sb.append("  `").append(word).append("Id` bigint UNSIGNED NOT NULL,\n");
+        if (compositePk) {
+            sb.append("  `lineNumber` smallint UNSIGNED NOT NULL,\n");
+        }
+        sb.append("  `").append(other).append("Code` varchar(32) NOT NULL,\n");
+        sb.append("  `").append(other).append("Id` int UNSIGNED DEFAULT NULL,\n");
+        sb.append("  `label` varchar(128) DEFAULT NULL,\n");
+        sb.append("  `amount` decimal(12,2) NOT NULL,\n");
+        sb.append("  `quantity` int NOT NULL,\n");
+        sb.append("  `active` tinyint(1) NOT NULL,\n");
+        sb.append("  `created_at` datetime NOT NULL,\n");
+        sb.append("  `valid_from` date DEFAULT NULL,\n");
+        if (withText) {
+            sb.append("  `notes` text,\n");
+        }
+        sb.append("  PRIMARY KEY (`").append(word).append("Id`").append(compositePk ? ", `lineNumber`" : "").append("),\n");
+        sb.append("  UNIQUE KEY `").append(other).append("Code` (`").append(other).append("Code`),\n");
+        sb.append("  KEY `").append(other).append("Id` (`").append(other).append("Id`),\n");
+        sb.append("  KEY `active_created` (`active`, `created_at`)\n");
+        sb.append(") ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;\n\n");
+    }
+}
@@ -0,0 +1,28 @@
+-- Tables of resources/database/import-aogo.sql used by the benchmarks, in a form H2 (MySQL mode) accepts:
+-- same columns and indexes, without character sets, comments and table options.
+
+DROP TABLE IF EXISTS `email`;
+DROP TABLE IF EXISTS `customer`;
+
+CREATE TABLE `email` (
+  `emailId` int UNSIGNED NOT NULL,
+  `email` varchar(128) NOT NULL,
+  PRIMARY KEY (`emailId`),
+  UNIQUE KEY `email` (`email`)
+);
+
+CREATE TABLE `customer` (
+  `customerId` int UNSIGNED NOT NULL,
+  `customerCode` varchar(16) DEFAULT NULL,
+  `civilityId` tinyint UNSIGNED NOT NULL,
+  `lastName` varchar(48) NOT NULL,
+  `updated` datetime NOT NULL,
+  `createdDate` date NOT NULL,
+  `createdTime` time NOT NULL,
+  PRIMARY KEY (`customerId`),
+  UNIQUE KEY `customerCode` (`customerCode`),
+  KEY `civilityId` (`civilityId`),
+  KEY `lastName` (`lastName`),
+  KEY `createdDate` (`createdDate`),
+  KEY `createdTime` (`createdTime`)
+);
@@ -1,21 +1,43 @@
 package com.test.generator;
 
+import com.test.generator.util.DdlParser;
+import com.test.generator.util.DdlParser.ColumnDefinition;
+import com.test.generator.util.DdlParser.IndexDefinition;
+import com.test.generator.util.DdlParser.TableDefinition;
+import com.test.generator.util.InfoHolder;
 import com.test.generator.util.InfoHolder.ColumnInfo;
 import com.test.generator.util.InfoHolder.IndexInfo;
+import com.test.generator.util.InfoHolder.ProjectionInfo;
 import com.test.generator.util.Name;
+import com.test.generator.util.Template;
 import com.test.generator.util.Type;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Generates Plain Old Java Object (POJO) and Data Access Object (DAO) classes
@@ -23,7 +45,9 @@ import java.util.stream.Collectors;
  * <p>
  * It connects to the database using credentials specified in a configuration
  * file, reads table metadata (columns, primary keys, indexes), and generates
- * Java source files using text templates.
+ * Java source files using text templates. Alternatively, when the
+ * {@code generator.ddl} property names a SQL dump, the schema is read from the
+ * dump and no database connection is made (see {@link DdlParser}).
  * </p>
  * <p>
  * Configuration is read from {@value #CONFIG_FILE} located in the classpath.
@@ -88,10 +112,53 @@ public class DaoGenerator {
 	private static final String TEMPLATE_DIR = "/resources/templates";
 
 	/**
-	 * Compiled regular expression pattern to find placeholders in templates (e.g., ${key}).
-	 * This is pre-compiled for slightly better performance in {@link #replacePlaceholders}.
+	 * Templates of the runtime support classes shared by all generated DAOs, mapped to the
+	 * name of the class they produce. They are generated once per run into {@link #DAO_PACKAGE}.
 	 */
-	private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\$\\{([^}]+)\\}");
+	private static final Map<String, String> SUPPORT_TEMPLATES = Map.of(
+		"dao_context.template", "DaoContext",
+		"dao_connection_pool.template", "DaoConnectionPool",
+		"dao_cache.template", "DaoCache",
+		"dao_exists_filter.template", "DaoExistsFilter",
+		"dao_executor.template", "DaoExecutor",
+		"dao_metrics.template", "DaoMetrics",
+		"dao_metrics_registry.template", "DaoMetricsRegistry",
+		"dao_slow_query_log.template", "DaoSlowQueryLog",
+		"dao_page.template", "DaoPage"
+	);
+
+	/**
+	 * Prefix of the configuration properties declaring projections, in the form
+	 * {@code generator.projection.<table>[.<Name>]=col1, col2, ...}. Without a name,
+	 * the projection is named after its columns (e.g., "CustomeridLastname").
+	 */
+	private static final String PROJECTION_PROPERTY_PREFIX = "generator.projection.";
+
+	/**
+	 * Bulk introspection query returning the columns of every table of a MySQL schema,
+	 * in column order. Used instead of one {@link DatabaseMetaData#getColumns} call per table.
+	 */
+	private static final String BULK_COLUMNS_SQL = "SELECT TABLE_NAME, COLUMN_NAME, DATA_TYPE, COLUMN_TYPE, IS_NULLABLE"
+		+ " FROM information_schema.COLUMNS WHERE TABLE_SCHEMA = ? ORDER BY TABLE_NAME, ORDINAL_POSITION";
+
+	/**
+	 * Bulk introspection query returning the indexes (including the primary key, named
+	 * "PRIMARY") of every table of a MySQL schema, in the order of {@link DatabaseMetaData#getIndexInfo}.
+	 */
+	private static final String BULK_INDEXES_SQL = "SELECT TABLE_NAME, INDEX_NAME, NON_UNIQUE, COLUMN_NAME"
+		+ " FROM information_schema.STATISTICS WHERE TABLE_SCHEMA = ? ORDER BY TABLE_NAME, NON_UNIQUE, INDEX_NAME, SEQ_IN_INDEX";
+
+	/**
+	 * Name of the manifest written in {@link #OUTPUT_DIR} after each run. It records the
+	 * fingerprint of the generator (classes and templates) and of each table's schema, so
+	 * that the next run can skip the tables whose generated code cannot have changed.
+	 */
+	private static final String MANIFEST_FILE = ".daogenerator-manifest";
+
+	/**
+	 * Javadoc note appended to the description of the generated LOB-free lookup variants.
+	 */
+	private static final String LOB_NOTE = ", without its LOB (CLOB/BLOB/TEXT) columns, which are left null";
 
 	// --- Instance Members ---
 
@@ -110,11 +177,159 @@ public class DaoGenerator {
 	 */
 	private String generatorDbPassword;
 
+	/**
+	 * Projections declared in {@value #CONFIG_FILE}, by table name. Loaded from the
+	 * properties starting with {@value #PROJECTION_PROPERTY_PREFIX}.
+	 */
+	private final Map<String, List<ProjectionInfo>> projectionsByTable = new TreeMap<>();
+
+	/**
+	 * Tables whose DAO serves {@code get} and {@code getByUniqueXxx} through a read-through
+	 * {@code DaoCache}. Loaded from the comma-separated {@code generator.cache.tables}
+	 * property (default: none); table names are matched case-insensitively.
+	 */
+	private final Set<String> cachedTables = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+	/**
+	 * Tables whose DAO answers {@code existsByUniqueXxx} through a Bloom filter
+	 * ({@code DaoExistsFilter}) per unique index. Loaded from the comma-separated
+	 * {@code generator.existsFilter.tables} property (default: none).
+	 */
+	private final Set<String> existsFilterTables = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+	/**
+	 * Whether an {@code XxxAsyncDao} returning {@code CompletableFuture}s is generated next
+	 * to each DAO. Loaded from the {@code generator.async} property (default: true).
+	 */
+	private boolean generateAsyncDaos;
+
+	/**
+	 * Whether the DAO methods accessing the database report their calls to the
+	 * {@code DaoMetrics} of {@code DaoContext}. Loaded from the {@code generator.metrics}
+	 * property (default: false).
+	 */
+	private boolean generateMetrics;
+
+	/**
+	 * Whether the DAO methods accessing the database report their slow calls to
+	 * {@code DaoSlowQueryLog}. Loaded from the {@code generator.slowQueryLog}
+	 * property (default: false).
+	 */
+	private boolean generateSlowQueryLog;
+
+	/**
+	 * Whether NOT NULL numeric and boolean columns are mapped to primitive fields
+	 * ({@code int}, {@code long}, {@code boolean}, ...) instead of wrapper types.
+	 * Loaded from the {@code generator.primitiveNotNull} property (default: false).
+	 */
+	private boolean primitiveNotNullColumns;
+
+	/**
+	 * Number of tables generated concurrently; 1 processes the tables sequentially.
+	 * Loaded from the {@code generator.threads} property (default: 1).
+	 */
+	private int generatorThreads;
+
+	/**
+	 * Whether tables are generated on virtual threads (Java 21+) instead of a fixed
+	 * thread pool. Loaded from the {@code generator.virtualThreads} property (default: false).
+	 */
+	private boolean useVirtualThreads;
+
+	/**
+	 * Number of connections used to read table metadata concurrently. Loaded from the
+	 * {@code generator.metadataConnections} property (default: min(threads, 4)).
+	 */
+	private int metadataConnectionCount;
+
+	/**
+	 * SQL DDL dump to read the schema from instead of a live database (offline mode), or
+	 * null. Loaded from the {@code generator.ddl} property, which may be overridden by the
+	 * system property of the same name.
+	 */
+	private Path ddlFile;
+
+	/**
+	 * How table metadata is read: "auto" (bulk on MySQL/MariaDB, per table otherwise),
+	 * "bulk" or "jdbc". Loaded from the {@code generator.introspection} property (default: "auto").
+	 */
+	private String introspectionMode;
+
+	/**
+	 * Columns of every table, loaded at once by {@link #loadBulkMetadata()}; null when
+	 * metadata is read per table through {@link DatabaseMetaData}.
+	 */
+	private Map<String, List<ColumnInfo>> bulkColumns;
+
+	/**
+	 * Indexes of every table, loaded at once by {@link #loadBulkMetadata()}; null when
+	 * metadata is read per table through {@link DatabaseMetaData}.
+	 */
+	private Map<String, Map<String, IndexInfo>> bulkIndexes;
+
+	/**
+	 * Whether tables unchanged since the previous run (same schema fingerprint, same
+	 * generator fingerprint) are skipped. Loaded from the {@code generator.incremental}
+	 * property (default: true).
+	 */
+	private boolean incremental;
+
+	/**
+	 * Table fingerprints of the previous run, by table name; empty when nothing can be
+	 * skipped (first run, generator or templates changed, or incremental mode disabled).
+	 */
+	private Map<String, String> previousTableFingerprints = Collections.emptyMap();
+
+	/**
+	 * Table fingerprints of this run, by table name, for the tables generated or skipped
+	 * successfully. Written to the manifest at the end of the run.
+	 */
+	private final Map<String, String> tableFingerprints = new ConcurrentHashMap<>();
+
+	/**
+	 * Files generated for each table by the previous run, relative to the output base
+	 * directory, by table name. A table is only skipped if all of them still exist.
+	 */
+	private Map<String, List<String>> previousTableFiles = Collections.emptyMap();
+
+	/**
+	 * Files generated for each table by this run (or kept from the previous run for the
+	 * skipped tables), relative to the output base directory. Written to the manifest.
+	 */
+	private final Map<String, List<String>> tableFiles = new ConcurrentHashMap<>();
+
+	/**
+	 * Number of tables skipped because they did not change since the previous run.
+	 */
+	private final AtomicInteger skippedTableCount = new AtomicInteger();
+
+	/**
+	 * Number of files written during this run.
+	 */
+	private final AtomicInteger writtenFileCount = new AtomicInteger();
+
+	/**
+	 * Number of files left untouched because their content did not change.
+	 */
+	private final AtomicInteger unchangedFileCount = new AtomicInteger();
+
 	/**
 	 * The active JDBC connection to the database.
 	 */
 	private Connection connection;
 
+	/**
+	 * Connections available to read table metadata, including {@link #connection}.
+	 * A table borrows one only while it reads its metadata, so that rendering and
+	 * writing files do not hold a connection.
+	 */
+	private BlockingQueue<Connection> metadataConnections;
+
+	/**
+	 * Additional connections opened for {@link #metadataConnections}, closed with {@link #connection}.
+	 */
+	private final List<Connection> extraConnections = new ArrayList<>();
+
 	/**
 	 * Provides access to database metadata (tables, columns, etc.).
 	 */
@@ -136,10 +351,11 @@ public class DaoGenerator {
 	private final Path daoOutputDir;
 
 	/**
-	 * A simple cache to store template file content, avoiding repeated file reads.
-	 * Maps template names (e.g., "pojo_class.template") to their string content.
+	 * A simple cache of the compiled templates, avoiding repeated file reads and parsing.
+	 * Maps template names (e.g., "pojo_class.template") to their compiled {@link Template}.
+	 * Concurrent, as tables may be generated in parallel.
 	 */
-	private final Map<String, String> templateCache = new HashMap<>();
+	private final Map<String, Template> templateCache = new ConcurrentHashMap<>();
 
 	/**
 	 * Initializes the generator. Loads database configuration, establishes a JDBC
@@ -157,6 +373,12 @@ public class DaoGenerator {
 		this.pojoOutputDir = outputBaseDir.resolve(POJO_SUBDIR);
 		this.daoOutputDir = outputBaseDir.resolve(DAO_SUBDIR);
 
+		// Offline mode: the schema is read from a DDL dump, no connection is needed.
+		if (this.ddlFile != null) {
+			System.out.println("Offline mode: reading the schema from DDL file " + ddlFile.toAbsolutePath());
+			return;
+		}
+
 		// Establish the database connection.
 		try {
 			// Validate required configuration.
@@ -171,6 +393,10 @@ public class DaoGenerator {
 			this.metaData = connection.getMetaData();
 			System.out.println("Successfully connected to database: " + metaData.getDatabaseProductName() + " " + metaData.getDatabaseProductVersion());
 
+			// The main connection is the first metadata connection; others are opened on demand.
+			this.metadataConnections = new ArrayBlockingQueue<>(metadataConnectionCount);
+			this.metadataConnections.add(connection);
+
 		} catch (SQLException e) {
 			// Provide helpful error context if connection fails.
 			System.err.println("FATAL: Database connection failed during generator initialization.");
@@ -180,6 +406,21 @@ public class DaoGenerator {
 		}
 	}
 
+	/**
+	 * Initializes a generator working on in-memory metadata only, without configuration
+	 * file nor database connection: the schema is given to {@link #loadTableDefinitions(Map)}.
+	 * Used by tools and benchmarks that drive the generator programmatically.
+	 *
+	 * @param props         The {@code generator.*} settings, as in {@link #CONFIG_FILE}.
+	 * @param outputBaseDir The base directory of the generated sources.
+	 */
+	DaoGenerator(Properties props, Path outputBaseDir) {
+		applyGeneratorConfig(props);
+		this.outputBaseDir = outputBaseDir;
+		this.pojoOutputDir = outputBaseDir.resolve(POJO_SUBDIR);
+		this.daoOutputDir = outputBaseDir.resolve(DAO_SUBDIR);
+	}
+
 	/**
 	 * Loads database connection properties (URL, user, password) for the generator from the configuration file specified by {@link #CONFIG_FILE}.
 	 * The configuration file must be accessible from the classpath.
@@ -219,6 +460,9 @@ public class DaoGenerator {
 				System.err.println("WARN: Property 'db.password' is missing in " + CONFIG_FILE + ". Using empty password instead of null.");
 				this.generatorDbPassword = "";
 			}
+
+			// Generator settings.
+			applyGeneratorConfig(props);
 		} catch (IOException e) {
 			System.err.println("Error loading database configuration for generator from " + CONFIG_FILE);
 			throw e; // Re-throw to signal failure.
@@ -226,17 +470,100 @@ public class DaoGenerator {
 	}
 
 	/**
-	 * Loads the content of a template file from the classpath directory {@link #TEMPLATE_DIR}.
+	 * Reads the {@code generator.*} settings: parallelism, offline and incremental modes,
+	 * generated features and projections.
+	 *
+	 * @param props The generator properties.
+	 */
+	private void applyGeneratorConfig(Properties props) {
+		// Parallel generation settings (sequential by default).
+		this.generatorThreads = Math.max(1, Integer.parseInt(props.getProperty("generator.threads", "1").trim()));
+		this.useVirtualThreads = Boolean.parseBoolean(props.getProperty("generator.virtualThreads", "false").trim());
+		this.metadataConnectionCount = Math.max(1, Math.min(generatorThreads,
+			Integer.parseInt(props.getProperty("generator.metadataConnections", String.valueOf(Math.min(generatorThreads, 4))).trim())));
+
+		// Offline mode from a DDL dump (the system property takes precedence for CI runs).
+		String ddl = System.getProperty("generator.ddl", props.getProperty("generator.ddl", ""));
+		this.ddlFile = ddl.trim().isEmpty() ? null : Paths.get(ddl.trim());
+
+		// Incremental regeneration (enabled by default).
+		this.incremental = Boolean.parseBoolean(props.getProperty("generator.incremental", "true").trim());
+
+		// Metadata introspection mode.
+		this.introspectionMode = props.getProperty("generator.introspection", "auto").trim().toLowerCase();
+
+		// Asynchronous DAO facades (enabled by default).
+		this.generateAsyncDaos = Boolean.parseBoolean(props.getProperty("generator.async", "true").trim());
+
+		// Opt-in metrics instrumentation of the DAO methods.
+		this.generateMetrics = Boolean.parseBoolean(props.getProperty("generator.metrics", "false").trim());
+
+		// Opt-in slow-query logging of the DAO methods.
+		this.generateSlowQueryLog = Boolean.parseBoolean(props.getProperty("generator.slowQueryLog", "false").trim());
+
+		// Opt-in mapping of NOT NULL columns to primitive fields.
+		this.primitiveNotNullColumns = Boolean.parseBoolean(props.getProperty("generator.primitiveNotNull", "false").trim());
+
+		// Tables served through a read-through cache.
+		for (String table : props.getProperty("generator.cache.tables", "").split(",")) {
+			if (!table.trim().isEmpty()) {
+				cachedTables.add(table.trim());
+			}
+		}
+
+		// Tables whose unique index exists lookups go through a Bloom filter.
+		for (String table : props.getProperty("generator.existsFilter.tables", "").split(",")) {
+			if (!table.trim().isEmpty()) {
+				existsFilterTables.add(table.trim());
+			}
+		}
+
+		// Read the projections declared per table (sorted for a deterministic output).
+		for (String key : new TreeSet<>(props.stringPropertyNames())) {
+			if (key.startsWith(PROJECTION_PROPERTY_PREFIX)) {
+				loadProjection(key.substring(PROJECTION_PROPERTY_PREFIX.length()), props.getProperty(key));
+			}
+		}
+	}
+
+	/**
+	 * Parses one projection declaration and registers it in {@link #projectionsByTable}.
+	 *
+	 * @param target  The property name without its prefix: "table" or "table.Name".
+	 * @param columns The comma-separated list of projected column names.
+	 */
+	private void loadProjection(String target, String columns) {
+		// Split "table.Name" into the table name and the optional projection name.
+		int dot = target.indexOf('.');
+		String tableName = (dot < 0) ? target : target.substring(0, dot);
+
+		List<String> columnDbNames = Arrays.stream(columns.split(","))
+			.map(String::trim)
+			.filter(c -> !c.isEmpty())
+			.collect(Collectors.toList());
+		if (tableName.isEmpty() || columnDbNames.isEmpty()) {
+			System.err.println("WARN: Ignoring invalid projection '" + PROJECTION_PROPERTY_PREFIX + target + "' in " + CONFIG_FILE);
+			return;
+		}
+
+		String name = (dot < 0) ? Name.generateMethodSuffix(columnDbNames) : Name.toClassName(target.substring(dot + 1));
+		projectionsByTable.computeIfAbsent(tableName, k -> new ArrayList<>()).add(new ProjectionInfo(name, columnDbNames));
+	}
+
+	/**
+	 * Loads a template file from the classpath directory {@link #TEMPLATE_DIR} and
+	 * compiles it once into literal segments and placeholder slots.
 	 * Uses a simple in-memory cache ({@link #templateCache}) to avoid redundant file reads.
 	 *
 	 * @param templateName The name of the template file (e.g., "pojo_class.template").
-	 * @return The content of the template as a String.
+	 * @return The compiled template.
 	 * @throws IOException if the template file cannot be found or read.
 	 */
-	private String loadTemplate(String templateName) throws IOException {
+	Template loadTemplate(String templateName) throws IOException {
 		// Check cache first for performance.
-		if (templateCache.containsKey(templateName)) {
-			return templateCache.get(templateName);
+		Template cached = templateCache.get(templateName);
+		if (cached != null) {
+			return cached;
 		}
 
 		// Construct the full classpath resource path.
@@ -248,12 +575,12 @@ public class DaoGenerator {
 				throw new IOException("Template file not found in classpath: " + path + ". Please ensure it exists and the TEMPLATE_DIR configuration is correct.");
 			}
 
-			// Read all bytes and convert to a String using UTF-8 encoding.
-			String content = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+			// Read all bytes, convert to a String using UTF-8 encoding, and compile it.
+			Template template = Template.compile(new String(is.readAllBytes(), StandardCharsets.UTF_8));
 
-			// Store in cache before returning.
-			templateCache.put(templateName, content);
-			return content;
+			// Store in cache before returning (another thread may have loaded it meanwhile).
+			Template previous = templateCache.putIfAbsent(templateName, template);
+			return (previous != null) ? previous : template;
 		} catch (NullPointerException e) {
 			// This might happen if getResourceAsStream is called in an unexpected context.
 			throw new IOException("Error locating template resource (invalid path or context?): " + path, e);
@@ -265,47 +592,29 @@ public class DaoGenerator {
 
 	/**
 	 * Replaces placeholders of the form <code>${key}</code> within a template
-	 * string with corresponding values from the provided map. Uses the pre-compiled
-	 * {@link #PLACEHOLDER_PATTERN}. If a key is not found in the map, the
-	 * placeholder is replaced with an empty string to avoid leaving literal
-	 * "${...}" in the generated code.
+	 * with corresponding values from the provided map, in a single pass over the
+	 * segments compiled by {@link Template#compile(String)}. If a key is not found
+	 * in the map, the placeholder is replaced with an empty string to avoid leaving
+	 * literal "${...}" in the generated code.
 	 *
-	 * @param template The template string containing placeholders.
+	 * @param template The compiled template.
 	 * @param values   A Map where keys are placeholder names (without ${}) and
 	 *                 values are the replacement strings.
-	 * @return The template string with all recognized placeholders replaced.
+	 * @return The template text with all recognized placeholders replaced.
 	 */
-	private String replacePlaceholders(String template, Map<String, String> values) {
-		// Use Matcher for efficient finding and replacement.
-		Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
-		
-		// Use StringBuilder for efficient string construction.
-		StringBuilder sb = new StringBuilder();
-
-		// Loop through all occurrences of the pattern.
-		while (matcher.find()) {
-			// Extract the key name from the capturing group.
-			String key = matcher.group(1);
-
-			// Get the replacement value from the map, defaulting to empty string if not
-			// found.
-			String value = values.getOrDefault(key, "");
-
-			// Append the portion of the template before the match, and the escaped replacement value.
-			// Matcher.quoteReplacement handles escaping of special characters like '$' and '\' in the value.
-			matcher.appendReplacement(sb, Matcher.quoteReplacement(value));
-		}
-
-		// Append the rest of the template string after the last match.
-		matcher.appendTail(sb);
-
-		return sb.toString();
+	String replacePlaceholders(Template template, Map<String, String> values) {
+		return template.render(values);
 	}
 
 	/**
 	 * The main entry point for the code generation process. It orchestrates the
 	 * steps: creating output directories, fetching table names, iterating through
 	 * tables to generate POJOs and DAOs, and closing the database connection.
+	 * <p>
+	 * When {@code generator.threads} is greater than 1, tables are generated
+	 * concurrently (see {@link #generateTables(List)}); the summary is printed in
+	 * table order either way.
+	 * </p>
 	 *
 	 * @throws SQLException if a database error occurs while fetching metadata.
 	 * @throws IOException  if an error occurs during file I/O (reading templates or
@@ -318,9 +627,16 @@ public class DaoGenerator {
 		System.out.println("Creating output directories (if they don't exist)...");
 		createOutputDirs();
 
+		// Generate the runtime support classes (shared connection pool, etc.) used by every DAO.
+		System.out.println("Generating DAO support classes...");
+		generateSupportClassesFromTemplates(DAO_PACKAGE, daoOutputDir);
+
+		// Read the fingerprints of the previous run to skip unchanged tables.
+		loadManifest();
+
 		// Retrieve the list of tables to process.
-		System.out.println("Fetching table list from database...");
-		List<String> tableNames = getTableNames();
+		System.out.println("Fetching table list from " + (ddlFile != null ? "DDL file" : "database") + "...");
+		List<String> tableNames = (ddlFile != null) ? loadDdlMetadata() : getTableNames();
 		System.out.println("Found " + tableNames.size() + " table(s): " + tableNames);
 
 		// Check if there are any tables to process.
@@ -332,33 +648,28 @@ public class DaoGenerator {
 			return;
 		}
 
-		// Process each table individually.
-		int successCount = 0;
-		int errorCount = 0;
-		for (String tableName : tableNames) {
-			System.out.println("\n--- Processing table: '" + tableName + "' ---");
-			try {
-				// Generate POJOs and DAO for the current table.
-				generateForTable(tableName);
-				successCount++;
-			} catch (Exception e) {
-				// Catch exceptions per table to allow the generator to continue with other
-				// tables.
-				System.err.println("ERROR: Failed to generate code for table '" + tableName + "'. Skipping.");
-
-				// Log the exception stack trace for detailed debugging.
-				e.printStackTrace();
-				errorCount++;
-			}
+		// Load the columns and indexes of all tables at once when the database supports it.
+		if (ddlFile == null) {
+			loadBulkMetadata();
 		}
 
+		// Process each table individually; failures are collected in table order.
+		List<String> failedTables = generateTables(tableNames);
+		int errorCount = failedTables.size();
+		int successCount = tableNames.size() - errorCount;
+
 		// Close the database connection after processing all tables.
 		closeConnection();
 
+		// Record the fingerprints of this run for the next one.
+		saveManifest();
+
 		// Final summary message.
 		System.out.println("\n--- Generation Summary ---");
 		System.out.println("Successfully processed: " + successCount + " table(s)");
-		System.out.println("Failed to process:    " + errorCount + " table(s)");
+		System.out.println("  of which unchanged:  " + skippedTableCount.get() + " table(s) (skipped)");
+		System.out.println("Failed to process:    " + errorCount + " table(s)" + (failedTables.isEmpty() ? "" : " " + failedTables));
+		System.out.println("Files written:        " + writtenFileCount.get() + " (" + unchangedFileCount.get() + " identical file(s) left untouched)");
 		System.out.println("Generated files output to base directory: " + outputBaseDir.toAbsolutePath());
 		if (OUTPUT_DIR.equals("src")) {
 			System.out.println("WARNING: Files were generated directly into the '" + OUTPUT_DIR + "' directory. Consider using a separate output directory for generated sources.");
@@ -368,146 +679,698 @@ public class DaoGenerator {
 	}
 
 	/**
-	 * Creates the output directories for POJOs and DAOs based on the configuration,
-	 * if they do not already exist.
-	 *
-	 * @throws IOException if an error occurs during directory creation.
+	 * Reads the manifest of the previous run from {@link #OUTPUT_DIR}. Its table
+	 * fingerprints are only used if the generator fingerprint, computed over the
+	 * templates recorded in the manifest, is unchanged.
 	 */
-	private void createOutputDirs() throws IOException {
-		try {
-			// Files.createDirectories creates parent directories as needed and doesn't fail
-			// if they already exist.
-			Files.createDirectories(pojoOutputDir);
-			Files.createDirectories(daoOutputDir);
+	private void loadManifest() {
+		Path manifestPath = outputBaseDir.resolve(MANIFEST_FILE);
+		if (!incremental || !Files.isRegularFile(manifestPath)) {
+			return;
+		}
+		Properties manifest = new Properties();
+		try (InputStream input = Files.newInputStream(manifestPath)) {
+			manifest.load(input);
 		} catch (IOException e) {
-			// Provide specific paths in the error message.
-			System.err.println("Failed to create output directories: " + pojoOutputDir + " or " + daoOutputDir);
-			throw e;
+			System.err.println("WARN: Unable to read " + manifestPath + " (" + e.getMessage() + "). Regenerating all tables.");
+			return;
+		}
+
+		List<String> templateNames = Arrays.stream(manifest.getProperty("templates", "").split(","))
+			.filter(n -> !n.isEmpty())
+			.collect(Collectors.toList());
+		if (!computeGeneratorFingerprint(templateNames).equals(manifest.getProperty("generator"))) {
+			System.out.println("Generator or templates changed since the previous run: regenerating all tables.");
+			return;
+		}
+
+		Map<String, String> fingerprints = new HashMap<>();
+		Map<String, List<String>> files = new HashMap<>();
+		for (String key : manifest.stringPropertyNames()) {
+			if (key.startsWith("table.")) {
+				fingerprints.put(key.substring("table.".length()), manifest.getProperty(key));
+			} else if (key.startsWith("files.")) {
+				files.put(key.substring("files.".length()), Arrays.asList(manifest.getProperty(key).split(",")));
+			}
 		}
+		this.previousTableFingerprints = fingerprints;
+		this.previousTableFiles = files;
 	}
 
 	/**
-	 * Retrieves a list of all table names from the connected database schema.
-	 *
-	 * @return A List of table name strings.
-	 * @throws SQLException if a database access error occurs.
+	 * Writes the manifest of this run to {@link #OUTPUT_DIR}: the generator fingerprint,
+	 * the templates it covers, and the fingerprint and generated files of each successfully
+	 * processed table.
+	 * Failed tables are left out so that they are regenerated next time.
 	 */
-	private List<String> getTableNames() throws SQLException {
-		List<String> tableNames = new ArrayList<>();
-		// Use try-with-resources for automatic ResultSet closing.
-		// Arguments: catalog, schemaPattern, tableNamePattern, types (here, only
-		// "TABLE" type)
-		try (ResultSet rs = metaData.getTables(connection.getCatalog(), null, "%", new String[] { "TABLE" })) {
-			while (rs.next()) {
-				// Get the table name from the "TABLE_NAME" column.
-				tableNames.add(rs.getString("TABLE_NAME"));
-			}
+	private void saveManifest() {
+		List<String> templateNames = new ArrayList<>(new TreeSet<>(templateCache.keySet()));
+		StringBuilder sb = new StringBuilder();
+		sb.append("# Generated by DaoGenerator: fingerprints used to skip unchanged tables. Delete to force a full regeneration.\n");
+		sb.append("generator=").append(computeGeneratorFingerprint(templateNames)).append('\n');
+		sb.append("templates=").append(String.join(",", templateNames)).append('\n');
+		for (Map.Entry<String, String> entry : new TreeMap<>(tableFingerprints).entrySet()) {
+			sb.append("table.").append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+			sb.append("files.").append(entry.getKey()).append('=')
+				.append(String.join(",", tableFiles.getOrDefault(entry.getKey(), Collections.emptyList()))).append('\n');
+		}
+		Path manifestPath = outputBaseDir.resolve(MANIFEST_FILE);
+		try {
+			Files.writeString(manifestPath, sb.toString(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			System.err.println("WARN: Unable to write " + manifestPath + " (" + e.getMessage() + "). The next run will regenerate all tables.");
 		}
-		return tableNames;
 	}
 
 	/**
-	 * Retrieves detailed information about all columns for a specific table. It
-	 * determines the Java type mapping, Java field name, and primary key status for
-	 * each column.
+	 * Computes the fingerprint of everything, besides the schema, that determines the
+	 * generated code: the generator classes and the given templates.
 	 *
-	 * @param tableName The name of the table to inspect.
-	 * @return A List of {@link ColumnInfo} objects, one for each column in the table.
-	 * @throws SQLException if a database access error occurs.
+	 * @param templateNames The templates to include.
+	 * @return A hexadecimal SHA-256 hash, or an empty string if a class or template cannot be read.
 	 */
-	private List<ColumnInfo> getColumns(String tableName) throws SQLException {
-		List<ColumnInfo> columns = new ArrayList<>();
-
-		// Optimization: Get the set of primary key column names once for this table.
-		Set<String> pkColumnNames = getPrimaryKeyColumnNames(tableName);
-
-		// Use try-with-resources for automatic ResultSet closing.
-		// Arguments: catalog, schemaPattern, tableNamePattern, columnNamePattern ("%"
-		// means all columns)
-		try (ResultSet rs = metaData.getColumns(connection.getCatalog(), null, tableName, "%")) {
-			while (rs.next()) {
-				// Extract column metadata from the ResultSet.
-				String dbName = rs.getString("COLUMN_NAME");
-				int sqlType = rs.getInt("DATA_TYPE"); // e.g., java.sql.Types.VARCHAR
-
-				// Map the JDBC SQL type to a Java type string (e.g., "String", "Integer").
-				String javaType = Type.toJavaType(sqlType);
-
-				// Convert the database column name (e.g., "user_id") to a Java field name
-				// (e.g., "userId").
-				String javaName = Name.toFieldName(dbName);
-
-				// Check if this column is part of the primary key.
-				boolean isPk = pkColumnNames.contains(dbName);
-
-				// Create and add the ColumnInfo object to the list.
-				columns.add(new ColumnInfo(dbName, javaName, javaType, sqlType, isPk));
+	private String computeGeneratorFingerprint(List<String> templateNames) {
+		MessageDigest digest = newDigest();
+		try {
+			for (Map.Entry<String, byte[]> generatorClass : readGeneratorClasses().entrySet()) {
+				digest.update(generatorClass.getKey().getBytes(StandardCharsets.UTF_8));
+				digest.update(generatorClass.getValue());
 			}
+		} catch (IOException e) {
+			return "";
 		}
-
-		// Warn if a table appears to have no columns.
-		if (columns.isEmpty()) {
-			System.err.println("WARN: No columns found for table '" + tableName + "'. Check table definition and database permissions.");
+		for (String templateName : templateNames) {
+			try {
+				digest.update(templateName.getBytes(StandardCharsets.UTF_8));
+				digest.update(loadTemplate(templateName).source().getBytes(StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				// A template disappeared: nothing can be skipped.
+				return "";
+			}
 		}
-
-		return columns;
+		return toHex(digest.digest());
 	}
 
 	/**
-	 * Retrieves the names of the columns that constitute the primary key for a
-	 * given table. The column names are returned in the order defined by the
-	 * primary key constraint (KEY_SEQ).
+	 * Reads the class files of the generator: every class of the {@code com.test.generator}
+	 * package and its subpackages, nested and anonymous classes included, from the directory
+	 * or jar the generator is loaded from. When that location cannot be listed, falls back to
+	 * the generator's top-level and nested classes.
 	 *
-	 * @param tableName The name of the table.
-	 * @return An ordered Set (LinkedHashSet) containing the names of the primary
-	 *         key columns. Returns an empty set if the table has no primary key.
-	 * @throws SQLException if a database access error occurs.
+	 * @return The class file contents, by resource name, in name order.
+	 * @throws IOException If a class file cannot be read.
 	 */
-	private Set<String> getPrimaryKeyColumnNames(String tableName) throws SQLException {
-		// Use LinkedHashSet to maintain the order of columns as defined by KEY_SEQ.
-		Set<String> pkColumnNames = new LinkedHashSet<>();
-
-		// Use try-with-resources for automatic ResultSet closing.
-		// Arguments: catalog, schema, table
-		try (ResultSet rs = metaData.getPrimaryKeys(connection.getCatalog(), null, tableName)) {
-			// Store results temporarily to allow sorting by KEY_SEQ.
-			List<Map.Entry<Short, String>> pkList = new ArrayList<>();
-			while (rs.next()) {
-				// Add entry with sequence number and column name.
-				pkList.add(Map.entry(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME")));
+	private static SortedMap<String, byte[]> readGeneratorClasses() throws IOException {
+		SortedMap<String, byte[]> classes = new TreeMap<>();
+		String packageDir = DaoGenerator.class.getPackageName().replace('.', '/');
+		Path location = null;
+		try {
+			location = Paths.get(DaoGenerator.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		} catch (RuntimeException | java.net.URISyntaxException e) {
+			// Unknown location: use the fallback below.
+		}
+		if (location != null && Files.isDirectory(location.resolve(packageDir))) {
+			readClassFiles(location, location.resolve(packageDir), classes);
+		} else if (location != null && Files.isRegularFile(location)) {
+			try (java.nio.file.FileSystem jar = java.nio.file.FileSystems.newFileSystem(location, (ClassLoader) null)) {
+				Path root = jar.getPath("/");
+				if (Files.isDirectory(root.resolve(packageDir))) {
+					readClassFiles(root, root.resolve(packageDir), classes);
+				}
 			}
-
-			// Sort the list based on the sequence number (KEY_SEQ).
-			pkList.sort(Map.Entry.comparingByKey());
-
-			// Add the sorted column names to the LinkedHashSet.
-			for (Map.Entry<Short, String> entry : pkList) {
-				pkColumnNames.add(entry.getValue());
+		}
+		if (classes.isEmpty()) {
+			for (Class<?> generatorClass : new Class<?>[] { DaoGenerator.class, Type.class, Name.class, Template.class, InfoHolder.class, DdlParser.class }) {
+				readClassFile(generatorClass, classes);
+				for (Class<?> nestedClass : generatorClass.getDeclaredClasses()) {
+					readClassFile(nestedClass, classes);
+				}
 			}
 		}
-
-		return pkColumnNames;
+		return classes;
 	}
 
 	/**
-	 * Retrieves information about all indexes (unique and non-unique) for a given
-	 * table. It groups columns by index name and calculates derived information
-	 * like POJO/method name suffixes.
+	 * Reads the class files under a directory into a map keyed by their path relative to a root.
+	 */
+	private static void readClassFiles(Path root, Path dir, Map<String, byte[]> classes) throws IOException {
+		try (Stream<Path> files = Files.walk(dir)) {
+			for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".class"))::iterator) {
+				classes.put(root.relativize(file).toString().replace('\\', '/'), Files.readAllBytes(file));
+			}
+		}
+	}
+
+	/**
+	 * Reads the class file of a loaded class into a map keyed by its binary name.
+	 */
+	private static void readClassFile(Class<?> generatorClass, Map<String, byte[]> classes) throws IOException {
+		String resource = generatorClass.getName().substring(generatorClass.getPackageName().length() + 1) + ".class";
+		try (InputStream is = generatorClass.getResourceAsStream(resource)) {
+			if (is != null) {
+				classes.put(generatorClass.getName(), is.readAllBytes());
+			}
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of a table's schema: its columns (with their mapped types),
+	 * its indexes and its declared projections.
+	 *
+	 * @param tableName The table name.
+	 * @param columns   The columns of the table.
+	 * @param indexes   The indexes of the table.
+	 * @return A hexadecimal SHA-256 hash.
+	 */
+	private String computeTableFingerprint(String tableName, List<ColumnInfo> columns, Map<String, IndexInfo> indexes) {
+		StringBuilder sb = new StringBuilder(tableName).append('\n');
+		for (ColumnInfo c : columns) {
+			sb.append(c.dbName).append('|').append(c.javaName).append('|').append(c.javaType).append('|')
+				.append(c.sqlType).append('|').append(c.isPrimaryKey).append('|').append(c.isNullable).append('\n');
+		}
+		for (IndexInfo index : indexes.values()) {
+			sb.append(index.indexName).append('|').append(index.isUnique).append('|').append(index.columnDbNames).append('\n');
+		}
+		for (ProjectionInfo projection : projectionsByTable.getOrDefault(tableName, Collections.emptyList())) {
+			sb.append(projection.name).append('|').append(projection.columnDbNames).append('\n');
+		}
+		if (cachedTables.contains(tableName)) {
+			sb.append("cache\n");
+		}
+		if (existsFilterTables.contains(tableName)) {
+			sb.append("existsFilter\n");
+		}
+		if (generateAsyncDaos) {
+			sb.append("async\n");
+		}
+		if (generateMetrics) {
+			sb.append("metrics\n");
+		}
+		if (generateSlowQueryLog) {
+			sb.append("slowQueryLog\n");
+		}
+		return toHex(newDigest().digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder sb = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Generates the POJOs and DAO of each table, sequentially or on
+	 * {@link #generatorThreads} concurrent tasks. A failing table does not stop the
+	 * others: its error is logged and its name reported.
+	 *
+	 * @param tableNames The tables to process.
+	 * @return The names of the tables that failed, in the order of {@code tableNames}.
+	 * @throws SQLException if the additional metadata connections cannot be opened.
+	 */
+	List<String> generateTables(List<String> tableNames) throws SQLException {
+		List<String> failedTables = new ArrayList<>();
+
+		// Sequential mode: the historical one-table-at-a-time loop.
+		if (generatorThreads == 1 || tableNames.size() == 1) {
+			for (String tableName : tableNames) {
+				if (!generateTable(tableName)) {
+					failedTables.add(tableName);
+				}
+			}
+			return failedTables;
+		}
+
+		// Offline mode reads no metadata from the database, and the tables found by the bulk
+		// load read none either: connections are only opened for the remaining ones.
+		if (metadataConnections != null) {
+			openMetadataConnections((int) tableNames.stream()
+				.filter(tableName -> bulkColumns == null || !bulkColumns.containsKey(tableName))
+				.count());
+		}
+		System.out.println("Generating " + tableNames.size() + " tables with " + generatorThreads
+			+ (useVirtualThreads ? " virtual" : "") + " thread(s)"
+			+ (metadataConnections != null ? " and " + metadataConnections.size() + " metadata connection(s)" : "") + "...");
+
+		// Virtual threads are not pooled: a semaphore bounds the number of tables in progress.
+		Semaphore permits = new Semaphore(generatorThreads);
+		ExecutorService executor = createTableExecutor();
+		try {
+			List<Future<Boolean>> results = new ArrayList<>(tableNames.size());
+			for (String tableName : tableNames) {
+				results.add(executor.submit(() -> {
+					permits.acquire();
+					try {
+						return generateTable(tableName);
+					} finally {
+						permits.release();
+					}
+				}));
+			}
+
+			// Collect the results in table order for a deterministic summary.
+			for (int i = 0; i < tableNames.size(); i++) {
+				boolean success;
+				try {
+					success = results.get(i).get();
+				} catch (ExecutionException e) {
+					e.getCause().printStackTrace();
+					success = false;
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new SQLException("Interrupted while waiting for table generation.", e);
+				}
+				if (!success) {
+					failedTables.add(tableNames.get(i));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return failedTables;
+	}
+
+	/**
+	 * Generates the POJOs and DAO of one table, isolating any failure.
+	 *
+	 * @param tableName The table to process.
+	 * @return True if the code was generated, false if an error occurred (already logged).
+	 */
+	private boolean generateTable(String tableName) {
+		System.out.println("\n--- Processing table: '" + tableName + "' ---");
+		try {
+			// Generate POJOs and DAO for the current table.
+			generateForTable(tableName);
+			return true;
+		} catch (Exception e) {
+			// Catch exceptions per table to allow the generator to continue with other
+			// tables.
+			System.err.println("ERROR: Failed to generate code for table '" + tableName + "'. Skipping.");
+
+			// Log the exception stack trace for detailed debugging.
+			e.printStackTrace();
+			return false;
+		}
+	}
+
+	/**
+	 * Creates the executor running the table generation tasks: a virtual thread per
+	 * task if requested and supported by the running JVM, otherwise a fixed pool of
+	 * {@link #generatorThreads} daemon threads.
+	 *
+	 * @return A new executor service.
+	 */
+	private ExecutorService createTableExecutor() {
+		if (useVirtualThreads) {
+			try {
+				// Looked up reflectively so that the generator still runs on Java 17.
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException e) {
+				System.err.println("WARN: Virtual threads are not available on this JVM (Java 21+ required). Using a thread pool instead.");
+			}
+		}
+		AtomicInteger threadCount = new AtomicInteger();
+		return Executors.newFixedThreadPool(generatorThreads, task -> {
+			Thread thread = new Thread(task, "dao-generator-" + threadCount.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Opens the additional connections of {@link #metadataConnections}, up to
+	 * {@link #metadataConnectionCount} connections in total and no more than the
+	 * tables reading their metadata through them.
+	 *
+	 * @param tableCount The number of tables whose metadata was not bulk-loaded.
+	 * @throws SQLException if a connection cannot be opened.
+	 */
+	private void openMetadataConnections(int tableCount) throws SQLException {
+		while (extraConnections.size() + 1 < Math.min(metadataConnectionCount, tableCount)) {
+			Connection extra = DriverManager.getConnection(this.generatorDbUrl, this.generatorDbUser, this.generatorDbPassword);
+			extraConnections.add(extra);
+			metadataConnections.add(extra);
+		}
+	}
+
+	/**
+	 * Takes a connection from {@link #metadataConnections}, waiting for one to be returned if needed.
+	 *
+	 * @return A connection to read metadata with, to be returned with {@link #releaseMetadataConnection(Connection)}.
+	 * @throws SQLException if the thread is interrupted while waiting.
+	 */
+	private Connection borrowMetadataConnection() throws SQLException {
+		try {
+			return metadataConnections.take();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for a metadata connection.", e);
+		}
+	}
+
+	/**
+	 * Returns a connection taken with {@link #borrowMetadataConnection()}.
+	 *
+	 * @param conn The connection to return.
+	 */
+	private void releaseMetadataConnection(Connection conn) {
+		metadataConnections.add(conn);
+	}
+
+	/**
+	 * Creates the output directories for POJOs and DAOs based on the configuration,
+	 * if they do not already exist.
+	 *
+	 * @throws IOException if an error occurs during directory creation.
+	 */
+	private void createOutputDirs() throws IOException {
+		try {
+			// Files.createDirectories creates parent directories as needed and doesn't fail
+			// if they already exist.
+			Files.createDirectories(pojoOutputDir);
+			Files.createDirectories(daoOutputDir);
+		} catch (IOException e) {
+			// Provide specific paths in the error message.
+			System.err.println("Failed to create output directories: " + pojoOutputDir + " or " + daoOutputDir);
+			throw e;
+		}
+	}
+
+	/**
+	 * Retrieves a list of all table names from the connected database schema.
+	 *
+	 * @return A List of table name strings.
+	 * @throws SQLException if a database access error occurs.
+	 */
+	private List<String> getTableNames() throws SQLException {
+		List<String> tableNames = new ArrayList<>();
+		// Use try-with-resources for automatic ResultSet closing.
+		// Arguments: catalog, schemaPattern, tableNamePattern, types (here, only
+		// "TABLE" type)
+		try (ResultSet rs = metaData.getTables(connection.getCatalog(), null, "%", new String[] { "TABLE" })) {
+			while (rs.next()) {
+				// Get the table name from the "TABLE_NAME" column.
+				tableNames.add(rs.getString("TABLE_NAME"));
+			}
+		}
+		return tableNames;
+	}
+
+	/**
+	 * Loads the columns, primary keys and indexes of all tables of the current catalog
+	 * with two set-based {@code information_schema} queries ({@link #BULK_COLUMNS_SQL}
+	 * and {@link #BULK_INDEXES_SQL}), instead of three {@link DatabaseMetaData} calls per
+	 * table. This is done on MySQL and MariaDB in "auto" mode, or whenever
+	 * {@code generator.introspection=bulk}. On failure, or for other databases, the
+	 * metadata is read per table as before.
+	 */
+	private void loadBulkMetadata() {
+		if ("jdbc".equals(introspectionMode)) {
+			return;
+		}
+		try {
+			String product = metaData.getDatabaseProductName();
+			boolean mysql = "MySQL".equalsIgnoreCase(product) || "MariaDB".equalsIgnoreCase(product);
+			if (!mysql && !"bulk".equals(introspectionMode)) {
+				return;
+			}
+
+			System.out.println("Loading schema metadata in bulk from information_schema...");
+			String catalog = connection.getCatalog();
+			Map<String, Map<String, IndexInfo>> indexesByTable = new HashMap<>();
+			Map<String, Set<String>> pkColumnsByTable = new HashMap<>();
+			Map<String, List<ColumnInfo>> columnsByTable = new HashMap<>();
+			try (PreparedStatement pstmt = connection.prepareStatement(BULK_INDEXES_SQL)) {
+				pstmt.setString(1, catalog);
+				try (ResultSet rs = pstmt.executeQuery()) {
+					while (rs.next()) {
+						String tableName = rs.getString("TABLE_NAME");
+						String indexName = rs.getString("INDEX_NAME");
+						String columnName = rs.getString("COLUMN_NAME");
+
+						// Skip expression-based index parts, which have no column name.
+						if (indexName == null || columnName == null) {
+							continue;
+						}
+						boolean nonUnique = rs.getInt("NON_UNIQUE") != 0;
+						addBulkIndexColumn(indexesByTable, pkColumnsByTable, tableName, indexName, !nonUnique, columnName);
+					}
+				}
+			}
+
+			try (PreparedStatement pstmt = connection.prepareStatement(BULK_COLUMNS_SQL)) {
+				pstmt.setString(1, catalog);
+				try (ResultSet rs = pstmt.executeQuery()) {
+					while (rs.next()) {
+						addBulkColumn(columnsByTable, pkColumnsByTable, rs.getString("TABLE_NAME"), rs.getString("COLUMN_NAME"),
+							rs.getString("DATA_TYPE"), rs.getString("COLUMN_TYPE"), !"NO".equalsIgnoreCase(rs.getString("IS_NULLABLE")));
+					}
+				}
+			}
+
+			setBulkMetadata(columnsByTable, indexesByTable);
+			System.out.println("Loaded metadata of " + columnsByTable.size() + " table(s) in bulk.");
+		} catch (SQLException e) {
+			// Fall back to the per-table DatabaseMetaData calls.
+			System.err.println("WARN: Bulk schema introspection failed (" + e.getMessage() + "). Reading metadata per table instead.");
+			this.bulkColumns = null;
+			this.bulkIndexes = null;
+		}
+	}
+
+	/**
+	 * Loads the columns, primary keys and indexes of all tables from the DDL dump
+	 * {@link #ddlFile} (offline mode), as {@link #loadBulkMetadata()} does from
+	 * {@code information_schema}. Indexes are ordered like the information_schema
+	 * query: unique indexes first, then by name.
+	 *
+	 * @return The names of the tables defined in the dump, in definition order.
+	 * @throws IOException if the dump cannot be read.
+	 */
+	private List<String> loadDdlMetadata() throws IOException {
+		return loadTableDefinitions(DdlParser.parse(ddlFile));
+	}
+
+	/**
+	 * Loads the columns, primary keys and indexes of the given tables as the schema
+	 * to generate, without reading any metadata from a database.
+	 *
+	 * @param tables The table definitions, by table name.
+	 * @return The names of the tables, in the iteration order of {@code tables}.
+	 */
+	List<String> loadTableDefinitions(Map<String, TableDefinition> tables) {
+		Map<String, Map<String, IndexInfo>> indexesByTable = new HashMap<>();
+		Map<String, Set<String>> pkColumnsByTable = new HashMap<>();
+		Map<String, List<ColumnInfo>> columnsByTable = new HashMap<>();
+		for (TableDefinition table : tables.values()) {
+			List<IndexDefinition> indexes = new ArrayList<>(table.indexes);
+			indexes.sort(Comparator.comparing((IndexDefinition i) -> !i.unique).thenComparing(i -> i.name, String.CASE_INSENSITIVE_ORDER));
+			for (IndexDefinition index : indexes) {
+				for (String columnName : index.columnNames) {
+					addBulkIndexColumn(indexesByTable, pkColumnsByTable, table.name, index.name, index.unique, columnName);
+				}
+			}
+			for (ColumnDefinition column : table.columns) {
+				addBulkColumn(columnsByTable, pkColumnsByTable, table.name, column.name, column.dataType, column.columnType, column.nullable);
+			}
+		}
+
+		setBulkMetadata(columnsByTable, indexesByTable);
+		return new ArrayList<>(tables.keySet());
+	}
+
+	/**
+	 * Adds one column of an index to the bulk-loaded metadata.
+	 *
+	 * @param indexesByTable   The indexes being loaded, by table then index name.
+	 * @param pkColumnsByTable The primary key columns being loaded, by table.
+	 * @param tableName        The table of the index.
+	 * @param indexName        The index name ("PRIMARY" for the primary key).
+	 * @param unique           True if the index is unique.
+	 * @param columnName       The indexed column, added in index order.
+	 */
+	private void addBulkIndexColumn(Map<String, Map<String, IndexInfo>> indexesByTable, Map<String, Set<String>> pkColumnsByTable,
+			String tableName, String indexName, boolean unique, String columnName) {
+		indexesByTable.computeIfAbsent(tableName, k -> new LinkedHashMap<>())
+			.computeIfAbsent(indexName, k -> new IndexInfo(k, unique))
+			.columnDbNames.add(columnName);
+
+		// The primary key is the index named "PRIMARY", listed in key order.
+		if ("PRIMARY".equals(indexName)) {
+			pkColumnsByTable.computeIfAbsent(tableName, k -> new LinkedHashSet<>()).add(columnName);
+		}
+	}
+
+	/**
+	 * Adds one column, described as in {@code information_schema.COLUMNS}, to the
+	 * bulk-loaded metadata. The primary key columns must have been loaded first.
+	 *
+	 * @param columnsByTable   The columns being loaded, by table.
+	 * @param pkColumnsByTable The primary key columns, by table.
+	 * @param tableName        The table of the column.
+	 * @param dbName           The column name.
+	 * @param dataType         The MySQL data type (e.g., "int").
+	 * @param columnType       The full MySQL column type (e.g., "tinyint(1)").
+	 * @param isNullable       True if the column accepts NULL values.
+	 */
+	private void addBulkColumn(Map<String, List<ColumnInfo>> columnsByTable, Map<String, Set<String>> pkColumnsByTable,
+			String tableName, String dbName, String dataType, String columnType, boolean isNullable) {
+		int sqlType = Type.fromMySqlType(dataType, columnType);
+		boolean isPk = pkColumnsByTable.getOrDefault(tableName, Collections.emptySet()).contains(dbName);
+		columnsByTable.computeIfAbsent(tableName, k -> new ArrayList<>())
+			.add(new ColumnInfo(dbName, Name.toFieldName(dbName), toColumnJavaType(sqlType, isNullable), sqlType, isPk, isNullable));
+	}
+
+	/**
+	 * Publishes bulk-loaded metadata to {@link #bulkColumns} and {@link #bulkIndexes},
+	 * calculating the derived names of the indexes as for the per-table path.
+	 *
+	 * @param columnsByTable The columns, by table.
+	 * @param indexesByTable The indexes, by table then index name.
+	 */
+	private void setBulkMetadata(Map<String, List<ColumnInfo>> columnsByTable, Map<String, Map<String, IndexInfo>> indexesByTable) {
+		Map<String, Map<String, IndexInfo>> builtIndexes = new HashMap<>();
+		for (Map.Entry<String, Map<String, IndexInfo>> entry : indexesByTable.entrySet()) {
+			builtIndexes.put(entry.getKey(), buildIndexes(entry.getValue()));
+		}
+		this.bulkColumns = columnsByTable;
+		this.bulkIndexes = builtIndexes;
+	}
+
+	/**
+	 * Retrieves detailed information about all columns for a specific table. It
+	 * determines the Java type mapping, Java field name, and primary key status for
+	 * each column.
+	 *
+	 * @param conn      The connection to read the metadata with.
+	 * @param tableName The name of the table to inspect.
+	 * @return A List of {@link ColumnInfo} objects, one for each column in the table.
+	 * @throws SQLException if a database access error occurs.
+	 */
+	private List<ColumnInfo> getColumns(Connection conn, String tableName) throws SQLException {
+		List<ColumnInfo> columns = new ArrayList<>();
+
+		// Optimization: Get the set of primary key column names once for this table.
+		Set<String> pkColumnNames = getPrimaryKeyColumnNames(conn, tableName);
+
+		// Use try-with-resources for automatic ResultSet closing.
+		// Arguments: catalog, schemaPattern, tableNamePattern, columnNamePattern ("%"
+		// means all columns)
+		try (ResultSet rs = conn.getMetaData().getColumns(conn.getCatalog(), null, tableName, "%")) {
+			while (rs.next()) {
+				// Extract column metadata from the ResultSet.
+				String dbName = rs.getString("COLUMN_NAME");
+				int sqlType = rs.getInt("DATA_TYPE"); // e.g., java.sql.Types.VARCHAR
+
+				// Treat "nullability unknown" as nullable.
+				boolean isNullable = rs.getInt("NULLABLE") != DatabaseMetaData.columnNoNulls;
+
+				// Map the JDBC SQL type to a Java type string (e.g., "String", "Integer").
+				String javaType = toColumnJavaType(sqlType, isNullable);
+
+				// Convert the database column name (e.g., "user_id") to a Java field name
+				// (e.g., "userId").
+				String javaName = Name.toFieldName(dbName);
+
+				// Check if this column is part of the primary key.
+				boolean isPk = pkColumnNames.contains(dbName);
+
+				// Create and add the ColumnInfo object to the list.
+				columns.add(new ColumnInfo(dbName, javaName, javaType, sqlType, isPk, isNullable));
+			}
+		}
+
+		// Warn if a table appears to have no columns.
+		if (columns.isEmpty()) {
+			System.err.println("WARN: No columns found for table '" + tableName + "'. Check table definition and database permissions.");
+		}
+
+		return columns;
+	}
+
+	/**
+	 * Maps the JDBC type of a column to the Java type of its POJO field. When
+	 * {@link #primitiveNotNullColumns} is enabled, NOT NULL columns whose wrapper
+	 * type has a primitive counterpart (e.g., "Integer") are mapped to that
+	 * primitive (e.g., "int") so that reading rows does not allocate boxed values.
+	 *
+	 * @param sqlType    The JDBC type code (from {@link java.sql.Types}).
+	 * @param isNullable True if the column accepts SQL NULL values.
+	 * @return The Java type name of the field.
+	 */
+	private String toColumnJavaType(int sqlType, boolean isNullable) {
+		String javaType = Type.toJavaType(sqlType);
+		String primitiveType = Type.toPrimitiveType(javaType);
+		return (primitiveNotNullColumns && !isNullable && primitiveType != null) ? primitiveType : javaType;
+	}
+
+	/**
+	 * Retrieves the names of the columns that constitute the primary key for a
+	 * given table. The column names are returned in the order defined by the
+	 * primary key constraint (KEY_SEQ).
 	 *
+	 * @param conn      The connection to read the metadata with.
+	 * @param tableName The name of the table.
+	 * @return An ordered Set (LinkedHashSet) containing the names of the primary
+	 *         key columns. Returns an empty set if the table has no primary key.
+	 * @throws SQLException if a database access error occurs.
+	 */
+	private Set<String> getPrimaryKeyColumnNames(Connection conn, String tableName) throws SQLException {
+		// Use LinkedHashSet to maintain the order of columns as defined by KEY_SEQ.
+		Set<String> pkColumnNames = new LinkedHashSet<>();
+
+		// Use try-with-resources for automatic ResultSet closing.
+		// Arguments: catalog, schema, table
+		try (ResultSet rs = conn.getMetaData().getPrimaryKeys(conn.getCatalog(), null, tableName)) {
+			// Store results temporarily to allow sorting by KEY_SEQ.
+			List<Map.Entry<Short, String>> pkList = new ArrayList<>();
+			while (rs.next()) {
+				// Add entry with sequence number and column name.
+				pkList.add(Map.entry(rs.getShort("KEY_SEQ"), rs.getString("COLUMN_NAME")));
+			}
+
+			// Sort the list based on the sequence number (KEY_SEQ).
+			pkList.sort(Map.Entry.comparingByKey());
+
+			// Add the sorted column names to the LinkedHashSet.
+			for (Map.Entry<Short, String> entry : pkList) {
+				pkColumnNames.add(entry.getValue());
+			}
+		}
+
+		return pkColumnNames;
+	}
+
+	/**
+	 * Retrieves information about all indexes (unique and non-unique) for a given
+	 * table. It groups columns by index name and calculates derived information
+	 * like POJO/method name suffixes.
+	 *
+	 * @param conn      The connection to read the metadata with.
 	 * @param tableName The name of the table to inspect.
 	 * @return A Map where the key is the index name (String) and the value is the
 	 *         corresponding {@link IndexInfo} object. The map preserves the order
 	 *         in which indexes were retrieved from the database metadata.
 	 * @throws SQLException if a database access error occurs.
 	 */
-	private Map<String, IndexInfo> getIndexes(String tableName) throws SQLException {
+	private Map<String, IndexInfo> getIndexes(Connection conn, String tableName) throws SQLException {
 		// Use LinkedHashMap to preserve the order of indexes as returned by the driver.
 		Map<String, IndexInfo> indexMap = new LinkedHashMap<>();
 
 		// Use try-with-resources for automatic ResultSet closing.
 		// Arguments: catalog, schema, table, unique=false (get all), approximate=true
 		// (allow stats if available)
-		try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, tableName, false, true)) {
+		try (ResultSet rs = conn.getMetaData().getIndexInfo(conn.getCatalog(), null, tableName, false, true)) {
 			while (rs.next()) {
 				// Ignore table statistics pseudo-index entries.
 				short indexType = rs.getShort("TYPE");
@@ -542,12 +1405,22 @@ public class DaoGenerator {
 
 		// Post-process: Calculate derived names (method/pojo suffixes) for each index
 		// now that all columns for each index have been collected.
+		return buildIndexes(indexMap);
+	}
+
+	/**
+	 * Calculates the derived names (method/POJO suffixes) of indexes whose columns
+	 * have all been collected.
+	 *
+	 * @param indexMap The indexes by name, in metadata order.
+	 * @return A new map, in the same order, of the built {@link IndexInfo} objects.
+	 */
+	private Map<String, IndexInfo> buildIndexes(Map<String, IndexInfo> indexMap) {
 		Map<String, IndexInfo> finalIndexes = new LinkedHashMap<>();
 		for (Map.Entry<String, IndexInfo> entry : indexMap.entrySet()) {
 			// buildWithColumns calculates names like "ByUserIdEmail" based on column names.
 			finalIndexes.put(entry.getKey(), entry.getValue().buildWithColumns());
 		}
-
 		return finalIndexes;
 	}
 
@@ -561,13 +1434,27 @@ public class DaoGenerator {
 	 * @throws IOException  if an error occurs during file I/O for this table's
 	 *                      generated files.
 	 */
-	private void generateForTable(String tableName) throws SQLException, IOException {
+	void generateForTable(String tableName) throws SQLException, IOException {
 		// Convert DB table name to Java class name prefix (e.g., "user_profiles" ->
 		// "UserProfiles").
 		String classNamePrefix = Name.toClassName(tableName);
 
-		// Fetch metadata for this table.
-		List<ColumnInfo> columns = getColumns(tableName);
+		// Fetch metadata for this table: from the bulk-loaded schema if available, otherwise
+		// through DatabaseMetaData, holding a metadata connection only meanwhile.
+		List<ColumnInfo> columns;
+		Map<String, IndexInfo> indexes;
+		if (bulkColumns != null && (metadataConnections == null || bulkColumns.containsKey(tableName))) {
+			columns = bulkColumns.getOrDefault(tableName, Collections.emptyList());
+			indexes = bulkIndexes.getOrDefault(tableName, Collections.emptyMap());
+		} else {
+			Connection conn = borrowMetadataConnection();
+			try {
+				columns = getColumns(conn, tableName);
+				indexes = columns.isEmpty() ? Collections.emptyMap() : getIndexes(conn, tableName);
+			} finally {
+				releaseMetadataConnection(conn);
+			}
+		}
 
 		// Case no columns found, skip generation for this table.
 		if (columns.isEmpty()) {
@@ -575,12 +1462,25 @@ public class DaoGenerator {
 			return;
 		}
 
+		// Skip the table if neither its schema nor the generator changed since the previous
+		// run, provided every file generated for it then is still there.
+		String fingerprint = computeTableFingerprint(tableName, columns, indexes);
+		List<String> previousFiles = previousTableFiles.get(tableName);
+		if (fingerprint.equals(previousTableFingerprints.get(tableName)) && previousFiles != null
+				&& previousFiles.stream().allMatch(f -> Files.isRegularFile(outputBaseDir.resolve(f)))) {
+			System.out.println("  Skipping table '" + tableName + "': unchanged since the previous run.");
+			skippedTableCount.incrementAndGet();
+			tableFiles.put(tableName, previousFiles);
+			tableFingerprints.put(tableName, fingerprint);
+			return;
+		}
+
+		// Files generated for this table, recorded in the manifest.
+		List<Path> files = new ArrayList<>();
+
 		// Filter primary key columns from the full list.
 		List<ColumnInfo> primaryKeys = columns.stream().filter(c -> c.isPrimaryKey).collect(Collectors.toList());
 
-		// Get index information.
-		Map<String, IndexInfo> indexes = getIndexes(tableName);
-
 		// Log a warning if no primary key is found, as it limits generated DAO
 		// functionality.
 		if (primaryKeys.isEmpty()) {
@@ -591,11 +1491,11 @@ public class DaoGenerator {
 		System.out.println("  Generating POJOs for '" + tableName + "'...");
 
 		// Generate the main data POJO (contains all columns).
-		generatePojoFromTemplate(classNamePrefix + "Data", POJO_PACKAGE, columns, pojoOutputDir);
+		files.add(generatePojoFromTemplate(classNamePrefix + "Data", POJO_PACKAGE, columns, pojoOutputDir));
 
 		// Generate the primary key POJO (if a PK exists).
 		if (!primaryKeys.isEmpty()) {
-			generatePojoFromTemplate(classNamePrefix + "PkData", POJO_PACKAGE, primaryKeys, pojoOutputDir);
+			files.add(generatePojoFromTemplate(classNamePrefix + "PkData", POJO_PACKAGE, primaryKeys, pojoOutputDir));
 		}
 
 		// Generate POJOs for each index (used as parameters for index-based DAO
@@ -615,13 +1515,36 @@ public class DaoGenerator {
 
 			// Construct the POJO name (e.g., "UserByUniqueEmailData", "OrderByIndexIdxStatusData").
 			String pojoName = classNamePrefix + (index.isUnique ? "Unique" : "Index") + index.pojoNameSuffix + "Data";
-			generatePojoFromTemplate(pojoName, POJO_PACKAGE, indexColumns, pojoOutputDir);
+			files.add(generatePojoFromTemplate(pojoName, POJO_PACKAGE, indexColumns, pojoOutputDir));
+		}
+
+		// Generate the POJOs of the projections declared for this table.
+		Map<String, List<ColumnInfo>> projections = new LinkedHashMap<>();
+		for (ProjectionInfo projection : projectionsByTable.getOrDefault(tableName, Collections.emptyList())) {
+			// Resolve the declared column names, in declaration order.
+			List<ColumnInfo> projectionColumns = new ArrayList<>();
+			for (String columnDbName : projection.columnDbNames) {
+				columns.stream().filter(c -> c.dbName.equalsIgnoreCase(columnDbName)).findFirst().ifPresent(projectionColumns::add);
+			}
+
+			// Skip the projection if any declared column does not exist.
+			if (projectionColumns.size() != projection.columnDbNames.size()) {
+				System.err.println("  WARN: Skipping projection '" + projection + "' of table '" + tableName + "' because some of its columns were not found.");
+				continue;
+			}
+
+			// Construct the POJO name (e.g., "CustomerSummaryProjection").
+			files.add(generatePojoFromTemplate(classNamePrefix + projection.name + "Projection", POJO_PACKAGE, projectionColumns, pojoOutputDir));
+			projections.put(projection.name, projectionColumns);
 		}
 
 		// Generate the DAO file.
 		System.out.println("  Generating DAO for '" + tableName + "'...");
-		generateDaoFromTemplate(tableName, classNamePrefix, DAO_PACKAGE, columns, primaryKeys, indexes, daoOutputDir);
+		files.addAll(generateDaoFromTemplate(tableName, classNamePrefix, DAO_PACKAGE, columns, primaryKeys, indexes, projections, daoOutputDir));
 
+		tableFiles.put(tableName, files.stream().filter(Objects::nonNull)
+			.map(f -> outputBaseDir.relativize(f).toString().replace('\\', '/')).collect(Collectors.toList()));
+		tableFingerprints.put(tableName, fingerprint);
 		System.out.println("  Successfully generated code for table '" + tableName + "'.");
 	}
 
@@ -637,17 +1560,18 @@ public class DaoGenerator {
 	 *                    fields of the POJO.
 	 * @param outputDir   The directory where the generated ".java" file will be
 	 *                    written.
+	 * @return The path of the generated file, or null if the POJO has no columns.
 	 * @throws IOException If template reading or file writing fails.
 	 */
-	private void generatePojoFromTemplate(String className, String packageName, List<ColumnInfo> columns, Path outputDir) throws IOException {
+	private Path generatePojoFromTemplate(String className, String packageName, List<ColumnInfo> columns, Path outputDir) throws IOException {
 		// Basic validation: cannot generate a POJO without columns.
 		if (columns == null || columns.isEmpty()) {
 			System.err.println("  Skipping POJO generation for '" + className + "' because no columns were provided.");
-			return;
+			return null;
 		}
 
 		// Load the POJO class template content.
-		String template = loadTemplate("pojo_class.template");
+		Template template = loadTemplate("pojo_class.template");
 
 		// Prepare the map of values to replace placeholders in the template.
 		Map<String, String> values = new HashMap<>();
@@ -661,16 +1585,16 @@ public class DaoGenerator {
 		values.put("constructor_assignments", generatePojoConstructorAssignments(columns));
 		values.put("getters_setters", generatePojoGettersSetters(columns));
 		values.put("toString_content", generatePojoToStringContent(columns));
-
-		// Perform placeholder replacement.
-		String generatedCode = replacePlaceholders(template, values);
+		values.put("equals_content", generatePojoEqualsContent(columns));
+		values.put("hashCode_content", generatePojoHashCodeContent(columns));
 
 		// Construct the final output file path.
 		Path filePath = outputDir.resolve(className + ".java");
 
-		// Write the generated code to the file.
-		writeFile(filePath, generatedCode);
+		// Stream the rendered template to the file.
+		writeFile(filePath, out -> template.renderTo(out, values, Collections.emptyMap()));
 		System.out.println("    -> Generated POJO: " + filePath.getFileName());
+		return filePath;
 	}
 
 	/**
@@ -784,8 +1708,78 @@ public class DaoGenerator {
             .collect(Collectors.joining(" + \", \" +\n"));
 	}
 
+	/**
+	 * Generates the boolean expression comparing all fields in the {@code equals()}
+	 * method of a POJO. {@link java.util.Objects#deepEquals} is used so that
+	 * {@code byte[]} fields are compared by content; primitive fields are compared
+	 * directly to avoid boxing.
+	 *
+	 * @param columns The list of columns to compare.
+	 * @return A string like "Objects.deepEquals(a, other.a)\n && ...".
+	 */
+	private String generatePojoEqualsContent(List<ColumnInfo> columns) {
+		// Format: "Objects.deepEquals(javaName, other.javaName)"
+		return columns.stream()
+			.map(c -> generatePojoFieldEquals(c))
+			.collect(Collectors.joining("\n\t\t\t&& "));
+	}
+
+	/**
+	 * Generates the expression comparing one field in the {@code equals()} method of a POJO.
+	 *
+	 * @param c The column of the field.
+	 * @return A boolean expression comparing {@code this} field with {@code other}'s.
+	 */
+	private String generatePojoFieldEquals(ColumnInfo c) {
+		switch (c.javaType) {
+			case "float":
+				return String.format("Float.compare(%s, other.%s) == 0", c.javaName, c.javaName);
+			case "double":
+				return String.format("Double.compare(%s, other.%s) == 0", c.javaName, c.javaName);
+			default:
+				return Type.isPrimitive(c.javaType)
+					? String.format("%s == other.%s", c.javaName, c.javaName)
+					: String.format("Objects.deepEquals(%s, other.%s)", c.javaName, c.javaName);
+		}
+	}
+
+	/**
+	 * Generates the argument list of the {@code Arrays.deepHashCode(...)} call in the
+	 * {@code hashCode()} method of a POJO.
+	 *
+	 * @param columns The list of columns to hash.
+	 * @return A string like "name1, name2, ...".
+	 */
+	private String generatePojoHashCodeContent(List<ColumnInfo> columns) {
+		return columns.stream().map(c -> c.javaName).collect(Collectors.joining(", "));
+	}
+
 	// --- DAO Generation Helpers ---
 
+	/**
+	 * Generates the runtime support classes listed in {@link #SUPPORT_TEMPLATES}. These classes
+	 * do not depend on the schema; only the package name is substituted.
+	 *
+	 * @param packageName The target package for the support classes (e.g.,
+	 *                    "com.test.dao").
+	 * @param outputDir   The directory where the generated ".java" files will be
+	 *                    written.
+	 * @throws IOException If template reading or file writing fails.
+	 */
+	private void generateSupportClassesFromTemplates(String packageName, Path outputDir) throws IOException {
+		// Sort by class name for a deterministic generation order.
+		for (Map.Entry<String, String> entry : new TreeMap<>(SUPPORT_TEMPLATES).entrySet()) {
+			Template template = loadTemplate(entry.getKey());
+
+			Map<String, String> values = new HashMap<>();
+			values.put("packageName", packageName);
+
+			Path filePath = outputDir.resolve(entry.getValue() + ".java");
+			writeFile(filePath, out -> template.renderTo(out, values, Collections.emptyMap()));
+			System.out.println("    -> Generated support class: " + filePath.getFileName());
+		}
+	}
+
 	/**
 	 * Generates the Java source file content for a DAO class using a template. It
 	 * assembles the final DAO code by generating individual method blocks using
@@ -802,34 +1796,91 @@ public class DaoGenerator {
 	 *                        key.
 	 * @param indexes         A map of index names to {@link IndexInfo} for the
 	 *                        table.
+	 * @param projections     A map of projection names to their resolved columns,
+	 *                        for which projected lookup methods are generated.
 	 * @param outputDir       The directory where the generated ".java" file will be
 	 *                        written.
+	 * @return The paths of the generated files (the DAO and its async facade).
 	 * @throws IOException If template reading or file writing fails.
 	 */
-	private void generateDaoFromTemplate(String tableName, String classNamePrefix, String packageName, List<ColumnInfo> allColumns, List<ColumnInfo> primaryKeys, Map<String, IndexInfo> indexes, Path outputDir) throws IOException {
+	private List<Path> generateDaoFromTemplate(String tableName, String classNamePrefix, String packageName, List<ColumnInfo> allColumns, List<ColumnInfo> primaryKeys, Map<String, IndexInfo> indexes, Map<String, List<ColumnInfo>> projections, Path outputDir) throws IOException {
 		// Determine names used within the generated code.
 		String daoClassName = classNamePrefix + "Dao";
 		String dataPojoName = classNamePrefix + "Data"; // e.g., UserProfileData
 		String mapRowMethodName = "mapRowTo" + dataPojoName; // e.g., mapRowToUserProfileData
 
-		// Use a StringBuilder to efficiently collect the source code of all generated
-		// methods.
-		StringBuilder methodsBlock = new StringBuilder();
+		// Columns read by the LOB-free projection variants (LOB fields are left null).
+		List<ColumnInfo> nonLobColumns = allColumns.stream().filter(c -> !Type.isLob(c.sqlType)).collect(Collectors.toList());
+		boolean hasLobs = !nonLobColumns.isEmpty() && nonLobColumns.size() < allColumns.size();
+		String noLobMapRowMethodName = mapRowMethodName + "WithoutLobs"; // e.g., mapRowToUserProfileDataWithoutLobs
+
+		// Read-through cache in front of the PK and unique index lookups (opt-in per table).
+		boolean cached = cachedTables.contains(tableName);
+		Map<String, String> uniqueCaches = new LinkedHashMap<>(); // Method name suffix -> index POJO name
+
+		// Bloom filters in front of the unique index exists lookups (opt-in per table).
+		Map<String, List<ColumnInfo>> existsFilters = new LinkedHashMap<>(); // Method name suffix -> index columns
+		if (existsFilterTables.contains(tableName)) {
+			for (IndexInfo index : indexes.values()) {
+				List<ColumnInfo> indexColumns = getIndexColumns(index, allColumns);
+				if (index.isUnique && !indexColumns.isEmpty() && !(index.indexName.equalsIgnoreCase("PRIMARY") && !primaryKeys.isEmpty())) {
+					existsFilters.put(index.methodNameSuffix, indexColumns);
+				}
+			}
+			if (existsFilters.isEmpty()) {
+				System.err.println("  WARN: Table '" + tableName + "' is listed in generator.existsFilter.tables but has no unique index to filter.");
+			}
+		}
+
+		// Collect the source code of all generated methods. They are streamed one by
+		// one into the DAO file, so the whole class is never assembled in memory.
+		List<String> methodsBlock = new ArrayList<>();
+
+		// Methods of the asynchronous facade, mirroring the main single-row methods.
+		List<String> asyncMethodsBlock = new ArrayList<>();
 
 		// --- Generate Methods Block ---
 
 		// Insert Method (always generated)
-		methodsBlock.append(generateInsertMethodFromTemplate(tableName, dataPojoName, allColumns));
+		methodsBlock.add(generateInsertMethodFromTemplate(tableName, dataPojoName, allColumns, existsFilters));
+		methodsBlock.add(generateInsertBatchMethodFromTemplate(tableName, dataPojoName, allColumns, existsFilters));
+		asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "insert", dataPojoName, "data", "The data object containing values to insert.", "Void", "null once the record is inserted"));
 
 		// Primary Key Based Methods (only if PK exists)
 		if (!primaryKeys.isEmpty()) {
 			String pkPojoName = classNamePrefix + "PkData"; // e.g., UserProfilePkData
-			methodsBlock.append(generateUpdateMethodFromTemplate(tableName, dataPojoName, allColumns, primaryKeys));
-			methodsBlock.append(generateDeleteByPkMethodFromTemplate(tableName, pkPojoName, primaryKeys));
-			methodsBlock.append(generateGetByPkMethodFromTemplate(tableName, dataPojoName, pkPojoName, primaryKeys, mapRowMethodName));
+			methodsBlock.add(generateUpdateMethodFromTemplate(tableName, dataPojoName, pkPojoName, allColumns, primaryKeys, cached, existsFilters));
+			methodsBlock.add(generateUpdateBatchMethodFromTemplate(tableName, dataPojoName, allColumns, primaryKeys, cached, existsFilters));
+			methodsBlock.add(generateDeleteByPkMethodFromTemplate(tableName, pkPojoName, primaryKeys, cached));
+			methodsBlock.add(generateDeleteBatchMethodFromTemplate(tableName, pkPojoName, primaryKeys, cached));
+			if (allColumns.stream().anyMatch(c -> !c.isPrimaryKey)) {
+				asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "update", dataPojoName, "data", "The data object containing the new values and the primary key.", "Integer", "the number of rows affected"));
+			}
+			asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "delete", pkPojoName, "pkData", "The object containing the primary key values.", "Integer", "the number of rows affected"));
+			asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "get", pkPojoName, "pkData", "The object containing the primary key values.", dataPojoName + "[]", "an array containing the matching record, or an empty array if not found"));
+			if (cached) {
+				// 'get' reads through the cache, 'getUncached' always reads the database.
+				methodsBlock.add(generateCachedGetByPkMethodFromTemplate(tableName, dataPojoName, pkPojoName, primaryKeys));
+				methodsBlock.add(generateGetByPkMethodFromTemplate(tableName, dataPojoName, pkPojoName, primaryKeys, allColumns, "getUncached", mapRowMethodName, ", bypassing the table cache"));
+			} else {
+				methodsBlock.add(generateGetByPkMethodFromTemplate(tableName, dataPojoName, pkPojoName, primaryKeys, allColumns, "get", mapRowMethodName, ""));
+			}
+			methodsBlock.add(generateGetAllByPkMethodFromTemplate(tableName, dataPojoName, pkPojoName, primaryKeys, allColumns, mapRowMethodName));
+			methodsBlock.add(generatePageAllMethodFromTemplate(tableName, dataPojoName, pkPojoName, primaryKeys, allColumns, mapRowMethodName));
+
+			// LOB-free variant of the PK lookup, for tables with CLOB/BLOB/TEXT columns.
+			if (hasLobs) {
+				methodsBlock.add(generateGetByPkMethodFromTemplate(tableName, dataPojoName, pkPojoName, primaryKeys, nonLobColumns, "getWithoutLobs", noLobMapRowMethodName, LOB_NOTE));
+			}
+
+			// Projected variants of the PK lookup (e.g., getSummary).
+			for (Map.Entry<String, List<ColumnInfo>> projection : projections.entrySet()) {
+				String projectionPojoName = classNamePrefix + projection.getKey() + "Projection";
+				methodsBlock.add(generateGetByPkMethodFromTemplate(tableName, projectionPojoName, pkPojoName, primaryKeys, projection.getValue(), "get" + projection.getKey(), "mapRowTo" + projectionPojoName, generateProjectionNote(projection.getValue())));
+			}
 //		} else {
 //			// Add a comment indicating why PK methods are missing.
-//			methodsBlock.append(String.format(
+//			methodsBlock.add(String.format(
 //				"\n    // Note: Update, Delete by PK, Get by PK methods were not generated because no primary key was found for table '%s'.\n",
 //				tableName
 //			));
@@ -843,9 +1894,7 @@ public class DaoGenerator {
 			}
 
 			// Reconstruct the ordered list of ColumnInfo objects for this specific index.
-			List<ColumnInfo> indexColumns = allColumns.stream().filter(c -> index.columnDbNames.contains(c.dbName))
-				.sorted(Comparator.comparingInt(c -> new ArrayList<>(index.columnDbNames).indexOf(c.dbName)))
-				.collect(Collectors.toList());
+			List<ColumnInfo> indexColumns = getIndexColumns(index, allColumns);
 
 			// Skip if column resolution failed.
 			if (indexColumns.isEmpty()) {
@@ -858,24 +1907,84 @@ public class DaoGenerator {
 
 			// Generate Get and Delete methods (specific template for unique vs non-unique).
 			if (index.isUnique) {
-				methodsBlock.append(generateGetByUniqueIndexMethodFromTemplate(tableName, dataPojoName, indexPojoName, methodNameSuffix, indexColumns, mapRowMethodName, index.indexName));
-				methodsBlock.append(generateDeleteByUniqueIndexMethodFromTemplate(tableName, indexPojoName, methodNameSuffix, indexColumns, index.indexName));
+				if (cached) {
+					// One cache per unique index.
+					uniqueCaches.put(methodNameSuffix, indexPojoName);
+					methodsBlock.add(generateCachedGetByUniqueIndexMethodFromTemplate(tableName, dataPojoName, indexPojoName, methodNameSuffix, indexColumns, index.indexName));
+					methodsBlock.add(generateGetByUniqueIndexMethodFromTemplate(tableName, dataPojoName, indexPojoName, methodNameSuffix + "Uncached", indexColumns, allColumns, mapRowMethodName, index.indexName, ", bypassing the table cache"));
+				} else {
+					methodsBlock.add(generateGetByUniqueIndexMethodFromTemplate(tableName, dataPojoName, indexPojoName, methodNameSuffix, indexColumns, allColumns, mapRowMethodName, index.indexName, ""));
+				}
+				if (hasLobs) {
+					methodsBlock.add(generateGetByUniqueIndexMethodFromTemplate(tableName, dataPojoName, indexPojoName, methodNameSuffix + "WithoutLobs", indexColumns, nonLobColumns, noLobMapRowMethodName, index.indexName, LOB_NOTE));
+				}
+				methodsBlock.add(generateDeleteByUniqueIndexMethodFromTemplate(tableName, indexPojoName, methodNameSuffix, indexColumns, index.indexName, cached));
+				asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "get" + methodNameSuffix, indexPojoName, "uniqueData", "The object containing the unique index values.", dataPojoName, "the matching data object, or null if not found"));
+				asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "delete" + methodNameSuffix, indexPojoName, "uniqueData", "The object containing the unique index values.", "Integer", "the number of rows affected"));
 			} else {
-				methodsBlock.append(generateGetByIndexMethodFromTemplate(tableName, dataPojoName, indexPojoName, methodNameSuffix, indexColumns, mapRowMethodName, index.indexName));
-				methodsBlock.append(generateDeleteByIndexMethodFromTemplate(tableName, indexPojoName, methodNameSuffix, indexColumns, index.indexName));
+				methodsBlock.add(generateGetByIndexMethodFromTemplate(tableName, dataPojoName, indexPojoName, methodNameSuffix, indexColumns, allColumns, mapRowMethodName, index.indexName, ""));
+				methodsBlock.add(generateStreamByIndexMethodFromTemplate(tableName, dataPojoName, indexPojoName, methodNameSuffix, indexColumns, allColumns, mapRowMethodName, index.indexName));
+				if (!primaryKeys.isEmpty()) {
+					// Keyset pagination seeks on the primary key, within the index values.
+					methodsBlock.add(generatePageByIndexMethodFromTemplate(tableName, dataPojoName, classNamePrefix + "PkData", indexPojoName, methodNameSuffix, indexColumns, primaryKeys, allColumns, mapRowMethodName, index.indexName));
+				}
+				methodsBlock.add(generateDeleteByIndexMethodFromTemplate(tableName, indexPojoName, methodNameSuffix, indexColumns, index.indexName, cached));
+				asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "get" + methodNameSuffix, indexPojoName, "indexData", "The object containing the index values.", dataPojoName + "[]", "the matching records (possibly empty)"));
+				asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "delete" + methodNameSuffix, indexPojoName, "indexData", "The object containing the index values.", "Integer", "the number of rows affected"));
+			}
+
+			// Projected variants of the index lookup (e.g., getSummaryByIndexLastname).
+			for (Map.Entry<String, List<ColumnInfo>> projection : projections.entrySet()) {
+				String projectionPojoName = classNamePrefix + projection.getKey() + "Projection";
+				String projectionMapRowMethodName = "mapRowTo" + projectionPojoName;
+				String projectionNote = generateProjectionNote(projection.getValue());
+				if (index.isUnique) {
+					methodsBlock.add(generateGetByUniqueIndexMethodFromTemplate(tableName, projectionPojoName, indexPojoName, projection.getKey() + methodNameSuffix, indexColumns, projection.getValue(), projectionMapRowMethodName, index.indexName, projectionNote));
+				} else {
+					methodsBlock.add(generateGetByIndexMethodFromTemplate(tableName, projectionPojoName, indexPojoName, projection.getKey() + methodNameSuffix, indexColumns, projection.getValue(), projectionMapRowMethodName, index.indexName, projectionNote));
+				}
 			}
 
 			// Generate the 'existsBy...' method for this index (applicable to both unique and non-unique).
-			methodsBlock.append(generateExistsByIndexMethodFromTemplate(tableName, indexPojoName, methodNameSuffix, indexColumns, index.indexName));
+			methodsBlock.add(generateExistsByIndexMethodFromTemplate(tableName, indexPojoName, methodNameSuffix, indexColumns, index.indexName, existsFilters.containsKey(methodNameSuffix)));
+			asyncMethodsBlock.add(generateAsyncMethodFromTemplate(daoClassName, "exists" + methodNameSuffix, indexPojoName, "indexData", "The object containing the index values.", "Boolean", "true if at least one matching record exists"));
+		}
+
+		// Cache fields and management methods of a cached table.
+		if (cached) {
+			if (primaryKeys.isEmpty() && uniqueCaches.isEmpty()) {
+				System.err.println("  WARN: Table '" + tableName + "' is listed in generator.cache.tables but has no primary key or unique index to cache.");
+			} else {
+				methodsBlock.add(generateCacheMethodsFromTemplate(tableName, dataPojoName, classNamePrefix + "PkData", primaryKeys, allColumns, uniqueCaches));
+			}
+		}
+
+		// Filter fields and management methods of a table with exists filters.
+		if (!existsFilters.isEmpty()) {
+			methodsBlock.add(generateExistsFilterMethodsFromTemplate(tableName, existsFilters));
 		}
 
 		// Generate the private row mapping helper method.
-		String mapRowMethodBlock = generateMapRowMethodFromTemplate(dataPojoName, allColumns, mapRowMethodName);
+		List<String> mapRowMethodBlock = new ArrayList<>();
+		mapRowMethodBlock.add(generateMapRowMethodFromTemplate(dataPojoName, allColumns, mapRowMethodName));
+
+		// Mapping helper of the LOB-free variants, reading the non-LOB columns only.
+		if (hasLobs) {
+			mapRowMethodBlock.add("\n\n\t");
+			mapRowMethodBlock.add(generateMapRowMethodFromTemplate(dataPojoName, nonLobColumns, noLobMapRowMethodName));
+		}
+
+		// Mapping helpers of the projections, reading the projected columns only.
+		for (Map.Entry<String, List<ColumnInfo>> projection : projections.entrySet()) {
+			String projectionPojoName = classNamePrefix + projection.getKey() + "Projection";
+			mapRowMethodBlock.add("\n\n\t");
+			mapRowMethodBlock.add(generateMapRowMethodFromTemplate(projectionPojoName, projection.getValue(), "mapRowTo" + projectionPojoName));
+		}
 
 		// --- Assemble Final DAO Class ---
 
 		// Load the main DAO class template.
-		String daoTemplate = loadTemplate("dao_class.template");
+		Template daoTemplate = loadTemplate("dao_class.template");
 
 		// Prepare values for the DAO class template placeholders.
 		Map<String, String> daoValues = new HashMap<>();
@@ -883,16 +1992,34 @@ public class DaoGenerator {
 		daoValues.put("pojoPackage", POJO_PACKAGE); // POJO package (for imports)
 		daoValues.put("daoClassName", daoClassName); // DAO class name
 		daoValues.put("extra_imports", generateDaoExtraImports(allColumns)); // e.g., BigDecimal import
-		daoValues.put("methods_block", methodsBlock.toString()); // All generated public/private methods
-		daoValues.put("map_row_method_block", mapRowMethodBlock); // The mapRowTo... method
 
-		// Perform placeholder replacement for the main DAO template.
-		String generatedCode = replacePlaceholders(daoTemplate, daoValues);
+		// The method blocks are streamed into their slots rather than concatenated.
+		Map<String, Template.Fragment> daoFragments = new HashMap<>();
+		daoFragments.put("methods_block", out -> appendAll(out, methodsBlock)); // All generated public/private methods
+		daoFragments.put("map_row_method_block", out -> appendAll(out, mapRowMethodBlock)); // The mapRowTo... method
 
-		// Write the final DAO source file.
+		// Stream the main DAO template, with its method blocks, to the DAO source file.
 		Path filePath = outputDir.resolve(daoClassName + ".java");
-		writeFile(filePath, generatedCode);
+		writeFile(filePath, out -> daoTemplate.renderTo(out, daoValues, daoFragments));
 		System.out.println("    -> Generated DAO: " + filePath.getFileName());
+		List<Path> files = new ArrayList<>();
+		files.add(filePath);
+
+		// Stream the asynchronous facade of the DAO.
+		if (generateAsyncDaos) {
+			Template asyncTemplate = loadTemplate("dao_async_class.template");
+			Map<String, String> asyncValues = new HashMap<>();
+			asyncValues.put("packageName", packageName);
+			asyncValues.put("pojoPackage", POJO_PACKAGE);
+			asyncValues.put("daoClassName", daoClassName);
+			asyncValues.put("asyncDaoClassName", classNamePrefix + "AsyncDao");
+
+			Path asyncFilePath = outputDir.resolve(classNamePrefix + "AsyncDao.java");
+			writeFile(asyncFilePath, out -> asyncTemplate.renderTo(out, asyncValues, Collections.singletonMap("methods_block", o -> appendAll(o, asyncMethodsBlock))));
+			System.out.println("    -> Generated async DAO: " + asyncFilePath.getFileName());
+			files.add(asyncFilePath);
+		}
+		return files;
 	}
 
 	// --- Specific DAO Method Generation Helpers ---
@@ -900,15 +2027,17 @@ public class DaoGenerator {
 	/**
 	 * Generates the source code for the 'insert' method using its template.
 	 *
-	 * @param tableName    Name of the database table.
-	 * @param dataPojoName Name of the POJO class representing table data.
-	 * @param allColumns   List of all columns in the table.
+	 * @param tableName     Name of the database table.
+	 * @param dataPojoName  Name of the POJO class representing table data.
+	 * @param allColumns    List of all columns in the table.
+	 * @param existsFilters The unique index columns of the table's exists filters,
+	 *                      by method name suffix, which receive the inserted keys.
 	 * @return The generated source code string for the insert method.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateInsertMethodFromTemplate(String tableName, String dataPojoName, List<ColumnInfo> allColumns) throws IOException {
+	private String generateInsertMethodFromTemplate(String tableName, String dataPojoName, List<ColumnInfo> allColumns, Map<String, List<ColumnInfo>> existsFilters) throws IOException {
 		// Load the specific template for the insert method.
-		String template = loadTemplate("dao_method_insert.template");
+		Template template = loadTemplate("dao_method_insert.template");
 		
 		// Prepare values needed by this template.
 		Map<String, String> values = new HashMap<>();
@@ -925,6 +2054,54 @@ public class DaoGenerator {
 		// Generate the block of code for setting PreparedStatement parameters.
 		values.put("parameter_setting_block", generateParameterSettingBlock(allColumns, "data", "\t\t\t")); // Indentation: 12 spaces
 
+		// The keys are added to the exists filters before the write, and again once it succeeded.
+		String existsFilterUpdate = generateExistsFilterUpdate(existsFilters, "data", "\t\t\t");
+		values.put("existsFilterAdd", existsFilterUpdate);
+		values.put("existsFilterUpdate", existsFilterUpdate);
+		values.put("methodWrapper", generateMethodWrapper(tableName, "void", "insert", dataPojoName + " data",
+			generateQueryLogValues(sql, null, allColumns, "data", null)));
+
+		// Replace placeholders and return the generated method code.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the source code for the 'insertBatch' and 'insertAll' methods using
+	 * their template. Rows are sent with JDBC batching in a single transaction.
+	 *
+	 * @param tableName     Name of the database table.
+	 * @param dataPojoName  Name of the POJO class representing table data.
+	 * @param allColumns    List of all columns in the table.
+	 * @param existsFilters The unique index columns of the table's exists filters,
+	 *                      by method name suffix, which receive the inserted keys.
+	 * @return The generated source code string for the batch insert methods.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateInsertBatchMethodFromTemplate(String tableName, String dataPojoName, List<ColumnInfo> allColumns, Map<String, List<ColumnInfo>> existsFilters) throws IOException {
+		// Load the specific template for the batch insert methods.
+		Template template = loadTemplate("dao_method_insert_batch.template");
+
+		// Prepare values needed by this template.
+		Map<String, String> values = new HashMap<>();
+
+		// Same statement as the single-row insert, so both share the statement cache entry.
+		String columnsClause = allColumns.stream().map(c -> "`" + c.dbName + "`").collect(Collectors.joining(", "));
+		String valuesClause = allColumns.stream().map(c -> "?").collect(Collectors.joining(", "));
+		String sql = String.format("INSERT INTO `%s` (%s) VALUES (%s)", tableName, columnsClause, valuesClause);
+
+		values.put("tableName", tableName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("sqlQuery", sql);
+
+		// Parameters are set inside the loop over the data objects.
+		values.put("parameter_setting_block", generateParameterSettingBlock(allColumns, "data", "\t\t\t\t\t"));
+
+		// The keys are added to the exists filters as each row is bound, and again once committed.
+		values.put("existsFilterAdd", generateExistsFilterUpdate(existsFilters, "data", "\t\t\t\t\t"));
+		values.put("existsFilterUpdate", generateExistsFilterBatchUpdate(existsFilters, dataPojoName, "\t\t\t\t"));
+		values.put("methodWrapper", generateMethodWrapper(tableName, "int[]", "insertAll", "Iterable<" + dataPojoName + "> dataList, int batchSize",
+			generateQueryLogValues(sql, null, allColumns, "data", "dataList")));
+
 		// Replace placeholders and return the generated method code.
 		return replacePlaceholders(template, values);
 	}
@@ -935,13 +2112,18 @@ public class DaoGenerator {
 	 *
 	 * @param tableName    Name of the database table.
 	 * @param dataPojoName Name of the main data POJO class.
+	 * @param pkPojoName   Name of the POJO class representing the primary key.
 	 * @param allColumns   List of all columns in the table.
 	 * @param primaryKeys  List of columns composing the primary key.
+	 * @param cached       Whether the table is cached, in which case the updated row
+	 *                     is invalidated in the DAO caches.
+	 * @param existsFilters The unique index columns of the table's exists filters,
+	 *                     by method name suffix, which receive the updated keys.
 	 * @return The generated source code string for the update method, or a comment
 	 *         if no update is possible.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateUpdateMethodFromTemplate(String tableName, String dataPojoName, List<ColumnInfo> allColumns, List<ColumnInfo> primaryKeys) throws IOException {
+	private String generateUpdateMethodFromTemplate(String tableName, String dataPojoName, String pkPojoName, List<ColumnInfo> allColumns, List<ColumnInfo> primaryKeys, boolean cached, Map<String, List<ColumnInfo>> existsFilters) throws IOException {
 		// Identify columns that are NOT part of the primary key (these are the ones to update).
 		List<ColumnInfo> nonPkColumns = allColumns.stream().filter(c -> !c.isPrimaryKey).collect(Collectors.toList());
 
@@ -954,7 +2136,7 @@ public class DaoGenerator {
 		}
 
 		// Load the update method template.
-		String template = loadTemplate("dao_method_update.template");
+		Template template = loadTemplate("dao_method_update.template");
 		
 		// Prepare values.
 		Map<String, String> values = new HashMap<>();
@@ -975,10 +2157,131 @@ public class DaoGenerator {
 		values.put("sqlQuery", sql);
 		values.put("parameter_setting_block", paramBlock.toString());
 
+		// The keys are added to the exists filters before the write, and again once it succeeded.
+		String existsFilterUpdate = generateExistsFilterUpdate(existsFilters, "data", "\t\t\t");
+		values.put("existsFilterAdd", existsFilterUpdate);
+		values.put("existsFilterUpdate", existsFilterUpdate);
+
+		// Drop the cached row, identified by the primary key of the data object.
+		values.put("cacheInvalidation", cached ? "\n\t\t\tinvalidateCache(" + generateCopyExpression(pkPojoName, primaryKeys, "data") + ");" : "");
+
+		// SET columns, then primary key columns.
+		List<ColumnInfo> boundColumns = new ArrayList<>(nonPkColumns);
+		boundColumns.addAll(primaryKeys);
+		values.put("methodWrapper", generateMethodWrapper(tableName, "int", "update", dataPojoName + " data",
+			generateQueryLogValues(sql, "PRIMARY", boundColumns, "data", null)));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the source code for the 'updateBatch' method using its template.
+	 * Updates rows by primary key with JDBC batching in a single transaction.
+	 *
+	 * @param tableName    Name of the database table.
+	 * @param dataPojoName Name of the main data POJO class.
+	 * @param allColumns   List of all columns in the table.
+	 * @param primaryKeys  List of columns composing the primary key.
+	 * @param cached       Whether the table is cached, in which case the DAO caches
+	 *                     are emptied once the batch is committed.
+	 * @param existsFilters The unique index columns of the table's exists filters,
+	 *                     by method name suffix, which receive the updated keys.
+	 * @return The generated source code string for the batch update method, or an
+	 *         empty string if no update is possible.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateUpdateBatchMethodFromTemplate(String tableName, String dataPojoName, List<ColumnInfo> allColumns, List<ColumnInfo> primaryKeys, boolean cached, Map<String, List<ColumnInfo>> existsFilters) throws IOException {
+		// Identify columns that are NOT part of the primary key (these are the ones to update).
+		List<ColumnInfo> nonPkColumns = allColumns.stream().filter(c -> !c.isPrimaryKey).collect(Collectors.toList());
+
+		// Same condition as the single-row update, which already emits an explanatory comment.
+		if (nonPkColumns.isEmpty()) {
+			return "";
+		}
+
+		// Load the batch update method template.
+		Template template = loadTemplate("dao_method_update_batch.template");
+
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+
+		// Same statement as the single-row update. Use backticks.
+		String setClause = nonPkColumns.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(", "));
+		String whereClause = primaryKeys.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
+		String sql = String.format("UPDATE `%s` SET %s WHERE %s", tableName, setClause, whereClause);
+
+		// Generate parameter setting block inside the loop: first non-PK cols, then PK cols.
+		StringBuilder paramBlock = new StringBuilder();
+		paramBlock.append(generateParameterSettingBlock(nonPkColumns, "data", "\t\t\t\t\t", 1));
+		paramBlock.append("\n");
+		paramBlock.append(generateParameterSettingBlock(primaryKeys, "data", "\t\t\t\t\t", nonPkColumns.size() + 1));
+
+		values.put("tableName", tableName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("sqlQuery", sql);
+		values.put("parameter_setting_block", paramBlock.toString());
+		values.put("cacheInvalidation", cached ? "\n\t\t\t\tinvalidateCache();" : "");
+		values.put("existsFilterAdd", generateExistsFilterUpdate(existsFilters, "data", "\t\t\t\t\t"));
+		values.put("existsFilterUpdate", generateExistsFilterBatchUpdate(existsFilters, dataPojoName, "\t\t\t\t"));
+
+		// SET columns, then primary key columns.
+		List<ColumnInfo> boundColumns = new ArrayList<>(nonPkColumns);
+		boundColumns.addAll(primaryKeys);
+		values.put("methodWrapper", generateMethodWrapper(tableName, "int[]", "updateBatch", "Collection<" + dataPojoName + "> dataList",
+			generateQueryLogValues(sql, "PRIMARY", boundColumns, "data", "dataList")));
+
 		// Replace and return.
 		return replacePlaceholders(template, values);
 	}
 
+	/**
+	 * Generates the source code for the 'deleteBatch' method (by primary key). A
+	 * single-column primary key is deleted with chunked {@code IN (...)} statements,
+	 * a composite one with JDBC batching of the delete-by-PK statement.
+	 *
+	 * @param tableName   Name of the database table.
+	 * @param pkPojoName  Name of the POJO class representing the primary key.
+	 * @param primaryKeys List of columns composing the primary key.
+	 * @param cached      Whether the table is cached, in which case the DAO caches
+	 *                    are emptied once the batch is committed.
+	 * @return The generated source code string for the batch delete method.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateDeleteBatchMethodFromTemplate(String tableName, String pkPojoName, List<ColumnInfo> primaryKeys, boolean cached) throws IOException {
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+		values.put("tableName", tableName);
+		values.put("pkPojoName", pkPojoName);
+		values.put("cacheInvalidation", cached ? "\n\t\t\t\tinvalidateCache();" : "");
+
+		// Single-column primary key: collapse the keys into IN lists.
+		if (primaryKeys.size() == 1) {
+			Template template = loadTemplate("dao_method_delete_batch_in.template");
+			ColumnInfo pk = primaryKeys.get(0);
+
+			// The IN list itself is appended at runtime, depending on the chunk size.
+			String sqlPrefix = String.format("DELETE FROM `%s` WHERE `%s` IN (", tableName, pk.dbName);
+			values.put("sqlPrefix", sqlPrefix);
+			values.put("rowPlaceholder", "?");
+			values.put("pkColumnsList", pk.dbName);
+			values.put("parameter_setting_block", generateIndexedParameterSettingBlock(primaryKeys, "pkData", "\t\t\t\t\t\t\t", "idx"));
+			values.put("methodWrapper", generateMethodWrapper(tableName, "int[]", "deleteBatch", "Collection<" + pkPojoName + "> pkDataList",
+				generateQueryLogValues(sqlPrefix + "...)", "PRIMARY", primaryKeys, "pkData", "pkDataList")));
+			return replacePlaceholders(template, values);
+		}
+
+		// Composite primary key: batch the single-row delete statement.
+		Template template = loadTemplate("dao_method_delete_batch.template");
+		String whereClause = primaryKeys.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
+		String sql = String.format("DELETE FROM `%s` WHERE %s", tableName, whereClause);
+		values.put("sqlQuery", sql);
+		values.put("parameter_setting_block", generateParameterSettingBlock(primaryKeys, "pkData", "\t\t\t\t\t"));
+		values.put("methodWrapper", generateMethodWrapper(tableName, "int[]", "deleteBatch", "Collection<" + pkPojoName + "> pkDataList",
+			generateQueryLogValues(sql, "PRIMARY", primaryKeys, "pkData", "pkDataList")));
+		return replacePlaceholders(template, values);
+	}
+
 	/**
 	 * Generates the source code for the 'delete' method (by primary key) using its
 	 * template.
@@ -986,12 +2289,14 @@ public class DaoGenerator {
 	 * @param tableName   Name of the database table.
 	 * @param pkPojoName  Name of the POJO class representing the primary key.
 	 * @param primaryKeys List of columns composing the primary key.
+	 * @param cached      Whether the table is cached, in which case the deleted row
+	 *                    is invalidated in the DAO caches.
 	 * @return The generated source code string for the delete method.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateDeleteByPkMethodFromTemplate(String tableName, String pkPojoName, List<ColumnInfo> primaryKeys) throws IOException {
+	private String generateDeleteByPkMethodFromTemplate(String tableName, String pkPojoName, List<ColumnInfo> primaryKeys, boolean cached) throws IOException {
 		// Load template.
-		String template = loadTemplate("dao_method_delete_pk.template");
+		Template template = loadTemplate("dao_method_delete_pk.template");
 		
 		// Prepare values.
 		Map<String, String> values = new HashMap<>();
@@ -1006,6 +2311,9 @@ public class DaoGenerator {
 		
 		// Generate parameter setting block for the PK columns.
 		values.put("parameter_setting_block", generateParameterSettingBlock(primaryKeys, "pkData", "\t\t\t"));
+		values.put("cacheInvalidation", cached ? "\n\t\t\tinvalidateCache(pkData);" : "");
+		values.put("methodWrapper", generateMethodWrapper(tableName, "int", "delete", pkPojoName + " pkData",
+			generateQueryLogValues(sql, "PRIMARY", primaryKeys, "pkData", null)));
 
 		// Replace and return.
 		return replacePlaceholders(template, values);
@@ -1019,14 +2327,19 @@ public class DaoGenerator {
 	 * @param dataPojoName     Name of the main data POJO class.
 	 * @param pkPojoName       Name of the primary key POJO class.
 	 * @param primaryKeys      List of columns composing the primary key.
+	 * @param selectColumns    List of columns to select, in the order read by the
+	 *                         mapping method.
+	 * @param methodName       The name of the generated method (e.g., "get").
 	 * @param mapRowMethodName The name of the private helper method used to map a
 	 *                         ResultSet row to the data POJO.
+	 * @param projectionNote   Javadoc note appended to the method description
+	 *                         (empty for the full-row variant).
 	 * @return The generated source code string for the get-by-PK method.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateGetByPkMethodFromTemplate(String tableName, String dataPojoName, String pkPojoName, List<ColumnInfo> primaryKeys, String mapRowMethodName) throws IOException {
+	private String generateGetByPkMethodFromTemplate(String tableName, String dataPojoName, String pkPojoName, List<ColumnInfo> primaryKeys, List<ColumnInfo> selectColumns, String methodName, String mapRowMethodName, String projectionNote) throws IOException {
 		// Load template.
-		String template = loadTemplate("dao_method_get_pk.template");
+		Template template = loadTemplate("dao_method_get_pk.template");
 		
 		// Prepare values.
 		Map<String, String> values = new HashMap<>();
@@ -1034,12 +2347,14 @@ public class DaoGenerator {
 		// Construct SQL WHERE clause. Use backticks.
 		String whereClause = primaryKeys.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
 		
-		// Simple SELECT * for brevity. Consider selecting explicit columns for production code.
-		String sql = String.format("SELECT * FROM `%s` WHERE %s", tableName, whereClause); // Add backticks
+		// List the columns explicitly, in the order expected by the mapping method.
+		String sql = String.format("SELECT %s FROM `%s` WHERE %s", generateSelectColumnsClause(selectColumns), tableName, whereClause); // Add backticks
 
 		values.put("tableName", tableName);
 		values.put("dataPojoName", dataPojoName);
 		values.put("pkPojoName", pkPojoName);
+		values.put("methodName", methodName);
+		values.put("projectionNote", projectionNote);
 		values.put("sqlQuery", sql);
 		
 		// Generate parameter setting block for the PK columns.
@@ -1047,6 +2362,62 @@ public class DaoGenerator {
 		
 		// Pass the name of the mapping method.
 		values.put("mapRowMethodName", mapRowMethodName);
+		values.put("methodWrapper", generateMethodWrapper(tableName, dataPojoName + "[]", methodName, pkPojoName + " pkData",
+			generateQueryLogValues(sql, "PRIMARY", primaryKeys, "pkData", null)));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the source code for the 'getAll' method (multi-get by primary key)
+	 * using its template. Keys are looked up with chunked {@code IN (...)} queries;
+	 * composite keys use row values, e.g. {@code (`a`, `b`) IN ((?, ?), (?, ?))}.
+	 *
+	 * @param tableName        Name of the database table.
+	 * @param dataPojoName     Name of the main data POJO class.
+	 * @param pkPojoName       Name of the primary key POJO class.
+	 * @param primaryKeys      List of columns composing the primary key.
+	 * @param selectColumns    List of columns to select, in the order read by the
+	 *                         mapping method.
+	 * @param mapRowMethodName The name of the private helper method used to map a
+	 *                         ResultSet row to the data POJO.
+	 * @return The generated source code string for the multi-get method.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateGetAllByPkMethodFromTemplate(String tableName, String dataPojoName, String pkPojoName, List<ColumnInfo> primaryKeys, List<ColumnInfo> selectColumns, String mapRowMethodName) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_method_get_all.template");
+
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+
+		// Left-hand side and element placeholder of the IN list: a plain column for a
+		// single-column key, a row value for a composite key. Use backticks.
+		String pkColumns = primaryKeys.stream().map(c -> "`" + c.dbName + "`").collect(Collectors.joining(", "));
+		String pkPlaceholders = primaryKeys.stream().map(c -> "?").collect(Collectors.joining(", "));
+		boolean composite = primaryKeys.size() > 1;
+		String pkTuple = composite ? "(" + pkColumns + ")" : pkColumns;
+
+		// The IN list itself is appended at runtime, depending on the chunk size.
+		String sqlPrefix = String.format("SELECT %s FROM `%s` WHERE %s IN (", generateSelectColumnsClause(selectColumns), tableName, pkTuple);
+
+		// Expression rebuilding the key of a mapped row, in PK POJO constructor order.
+		String pkFromData = generatePkFromData(pkPojoName, primaryKeys);
+
+		values.put("tableName", tableName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("pkPojoName", pkPojoName);
+		values.put("pkTuple", pkTuple.replace("`", ""));
+		values.put("sqlPrefix", sqlPrefix);
+		values.put("rowPlaceholder", composite ? "(" + pkPlaceholders + ")" : pkPlaceholders);
+		values.put("pkFromData", pkFromData);
+		values.put("mapRowMethodName", mapRowMethodName);
+
+		// Each key of the chunk binds its PK columns with a running index.
+		values.put("parameter_setting_block", generateIndexedParameterSettingBlock(primaryKeys, "pkData", "\t\t\t\t\t\t", "idx"));
+		values.put("methodWrapper", generateMethodWrapper(tableName, "Map<" + pkPojoName + ", " + dataPojoName + ">", "getAll", "Collection<" + pkPojoName + "> pkDataList",
+			generateQueryLogValues(sqlPrefix + "...)", "PRIMARY", primaryKeys, "pkData", "pkDataList")));
 
 		// Replace and return.
 		return replacePlaceholders(template, values);
@@ -1062,22 +2433,315 @@ public class DaoGenerator {
 	 *                         columns.
 	 * @param methodNameSuffix Suffix for the method name (e.g., "ByUserIdEmail").
 	 * @param indexColumns     List of columns composing the unique index.
+	 * @param selectColumns    List of columns to select, in the order read by the
+	 *                         mapping method.
 	 * @param mapRowMethodName Name of the row mapping helper method.
 	 * @param indexName        The actual name of the index in the database (for
 	 *                         comments).
+	 * @param projectionNote   Javadoc note appended to the method description
+	 *                         (empty for the full-row variant).
 	 * @return The generated source code string for the get-by-unique-index method.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateGetByUniqueIndexMethodFromTemplate(String tableName, String dataPojoName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String mapRowMethodName, String indexName) throws IOException {
+	private String generateGetByUniqueIndexMethodFromTemplate(String tableName, String dataPojoName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, List<ColumnInfo> selectColumns, String mapRowMethodName, String indexName, String projectionNote) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_method_get_unique.template");
+		
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+		
+		// Construct SQL parts. Use backticks.
+		String whereClause = indexColumns.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
+		String sql = String.format("SELECT %s FROM `%s` WHERE %s", generateSelectColumnsClause(selectColumns), tableName, whereClause); // Add backticks
+		
+		// Construct the full method name.
+		String methodName = "get" + methodNameSuffix;
+
+		values.put("tableName", tableName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("indexPojoName", indexPojoName);
+		values.put("projectionNote", projectionNote);
+		values.put("methodNameSuffix", methodNameSuffix); // Keep suffix if needed by template logic
+		values.put("methodName", methodName); // Full method name
+		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", "))); // For Javadoc
+		values.put("indexName", indexName); // For Javadoc
+		values.put("sqlQuery", sql);
+		
+		// Generate parameter setting block for index columns, using "uniqueData" as variable name.
+		values.put("parameter_setting_block", generateParameterSettingBlock(indexColumns, "uniqueData", "\t\t\t"));
+		values.put("mapRowMethodName", mapRowMethodName);
+		values.put("methodWrapper", generateMethodWrapper(tableName, dataPojoName, methodName, indexPojoName + " uniqueData",
+			generateQueryLogValues(sql, indexName, indexColumns, "uniqueData", null)));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the source code of the cached 'get' method (by primary key) of a
+	 * cached table. It serves the rows found in the primary key cache and delegates
+	 * to 'getUncached' on a miss, caching the row it returns.
+	 *
+	 * @param tableName    Name of the database table.
+	 * @param dataPojoName Name of the main data POJO class.
+	 * @param pkPojoName   Name of the primary key POJO class.
+	 * @param primaryKeys  List of columns composing the primary key.
+	 * @return The generated source code string for the cached get-by-PK method.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateCachedGetByPkMethodFromTemplate(String tableName, String dataPojoName, String pkPojoName, List<ColumnInfo> primaryKeys) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_method_get_pk_cached.template");
+
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+		values.put("tableName", tableName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("pkPojoName", pkPojoName);
+
+		// The cache keeps its own copy of the key, which the caller may modify later.
+		values.put("pkCopy", generateCopyExpression(pkPojoName, primaryKeys, "pkData"));
+
+		// Metered under its own name, cache hits included; 'getUncached' logs the query.
+		values.put("methodWrapper", generateMethodWrapper(tableName, dataPojoName + "[]", "get", pkPojoName + " pkData", null));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the source code of a cached 'getByUniqueXxx' method of a cached
+	 * table. It serves the rows found in the cache of the unique index and
+	 * delegates to 'getByUniqueXxxUncached' on a miss, caching the row it returns.
+	 *
+	 * @param tableName        Name of the database table.
+	 * @param dataPojoName     Name of the main data POJO class.
+	 * @param indexPojoName    Name of the POJO representing the unique index
+	 *                         columns.
+	 * @param methodNameSuffix Suffix for the method name (e.g., "ByUniqueEmail").
+	 * @param indexColumns     List of columns composing the unique index.
+	 * @param indexName        The actual name of the index in the database (for
+	 *                         comments).
+	 * @return The generated source code string for the cached get-by-unique-index
+	 *         method.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateCachedGetByUniqueIndexMethodFromTemplate(String tableName, String dataPojoName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String indexName) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_method_get_unique_cached.template");
+
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+		values.put("tableName", tableName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("indexPojoName", indexPojoName);
+		values.put("methodNameSuffix", methodNameSuffix);
+		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", ")));
+		values.put("indexName", indexName);
+		values.put("cacheField", toConstantName("CACHE", methodNameSuffix));
+
+		// The cache keeps its own copy of the key, which the caller may modify later.
+		values.put("uniqueCopy", generateCopyExpression(indexPojoName, indexColumns, "uniqueData"));
+
+		// Metered under its own name, cache hits included; the uncached method logs the query.
+		values.put("methodWrapper", generateMethodWrapper(tableName, dataPojoName, "get" + methodNameSuffix, indexPojoName + " uniqueData", null));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the cache fields and management methods of a cached table: the
+	 * {@code DaoCache} of the primary key and of each unique index, 'getCaches',
+	 * 'invalidateCache' and the private 'copyOf' helper, which rebuilds a row with
+	 * the all-arguments constructor of its POJO.
+	 *
+	 * @param tableName         Name of the database table.
+	 * @param dataPojoName      Name of the main data POJO class.
+	 * @param pkPojoName        Name of the primary key POJO class.
+	 * @param primaryKeys       List of columns composing the primary key (empty if
+	 *                          the table has none).
+	 * @param allColumns        List of all columns in the table.
+	 * @param uniqueCaches      The method name suffixes of the cached unique index
+	 *                          lookups, mapped to the POJO name of their index.
+	 * @return The generated source code string for the cache members.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateCacheMethodsFromTemplate(String tableName, String dataPojoName, String pkPojoName, List<ColumnInfo> primaryKeys, List<ColumnInfo> allColumns, Map<String, String> uniqueCaches) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_method_cache.template");
+
+		// One cache per lookup, all configured by the table's runtime properties.
+		List<String> fields = new ArrayList<>();
+		List<String> cacheNames = new ArrayList<>();
+		if (!primaryKeys.isEmpty()) {
+			fields.add(String.format("\t/**\n\t * Rows read by {@code get}, by primary key.\n\t */\n\tprivate static final DaoCache<%s, %s> PK_CACHE = DaoCache.fromProperties(\"%s\", \"get\");", pkPojoName, dataPojoName, tableName));
+			cacheNames.add("PK_CACHE");
+		}
+		for (Map.Entry<String, String> unique : uniqueCaches.entrySet()) {
+			String field = toConstantName("CACHE", unique.getKey());
+			fields.add(String.format("\t/**\n\t * Rows read by {@code get%s}, by unique key.\n\t */\n\tprivate static final DaoCache<%s, %s> %s = DaoCache.fromProperties(\"%s\", \"get%s\");",
+				unique.getKey(), unique.getValue(), dataPojoName, field, tableName, unique.getKey()));
+			cacheNames.add(field);
+		}
+
+		// Invalidation of a single row: its primary key entry goes, but the unique
+		// index entries cannot be located from the primary key and are all cleared.
+		String invalidateByPkMethod = "";
+		if (!primaryKeys.isEmpty()) {
+			StringBuilder method = new StringBuilder();
+			method.append("\n\n\t/**\n\t * Invalidates a row updated or deleted through this DAO.\n\t */\n");
+			method.append("\tprivate static void invalidateCache(").append(pkPojoName).append(" pkData) {\n");
+			method.append("\t\tPK_CACHE.invalidate(pkData);\n");
+			for (String suffix : uniqueCaches.keySet()) {
+				method.append("\t\t").append(toConstantName("CACHE", suffix)).append(".invalidateAll();\n");
+			}
+			method.append("\t}");
+			invalidateByPkMethod = method.toString();
+		}
+
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+		values.put("tableName", tableName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("cacheFields", String.join("\n\n", fields));
+		values.put("cacheList", String.join(", ", cacheNames));
+		values.put("invalidateAllStatements", cacheNames.stream().map(c -> "\t\t" + c + ".invalidateAll();").collect(Collectors.joining("\n")));
+		values.put("invalidateByPkMethod", invalidateByPkMethod);
+		values.put("copyArguments", generateCopyArguments(allColumns, "data"));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Returns the name of a static field dedicated to an index lookup (e.g.,
+	 * "CACHE_BY_UNIQUE_EMAIL" for "CACHE" and "ByUniqueEmail").
+	 *
+	 * @param prefix           The prefix of the field name.
+	 * @param methodNameSuffix The method name suffix of the lookup.
+	 * @return The constant name of the field.
+	 */
+	private static String toConstantName(String prefix, String methodNameSuffix) {
+		return prefix + "_" + methodNameSuffix.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+	}
+
+	/**
+	 * Generates an expression building a copy of a POJO with its all-arguments
+	 * constructor (e.g., {@code new UserPkData(pkData.getId())}).
+	 *
+	 * @param pojoName     Name of the POJO class to instantiate.
+	 * @param columns      The columns of the POJO, in constructor order.
+	 * @param variableName The name of the variable holding the POJO to copy (or any
+	 *                     object with the same getters).
+	 * @return The constructor call expression.
+	 */
+	private String generateCopyExpression(String pojoName, List<ColumnInfo> columns, String variableName) {
+		return "new " + pojoName + "(" + generateCopyArguments(columns, variableName) + ")";
+	}
+
+	/**
+	 * Generates the arguments of a copy constructor call: one getter call per column,
+	 * cloning the mutable values (arrays, dates and timestamps) so that the copy
+	 * does not share them with the original.
+	 *
+	 * @param columns      The columns to copy, in constructor order.
+	 * @param variableName The name of the variable holding the POJO to copy.
+	 * @return The comma-separated arguments.
+	 */
+	private String generateCopyArguments(List<ColumnInfo> columns, String variableName) {
+		return columns.stream().map(c -> {
+			String getter = variableName + ".get" + Name.toClassName(c.javaName) + "()";
+			if ("byte[]".equals(c.javaType)) {
+				return "(" + getter + " == null) ? null : " + getter + ".clone()";
+			}
+			if (c.javaType.startsWith("java.sql.")) {
+				return "(" + getter + " == null) ? null : (" + c.javaType + ") " + getter + ".clone()";
+			}
+			return getter;
+		}).collect(Collectors.joining(", "));
+	}
+
+	/**
+	 * Generates the source code for a 'delete' method based on a unique index using
+	 * its template.
+	 *
+	 * @param tableName        Name of the database table.
+	 * @param indexPojoName    Name of the POJO representing the unique index
+	 *                         columns.
+	 * @param methodNameSuffix Suffix for the method name (e.g., "ByUserIdEmail").
+	 * @param indexColumns     List of columns composing the unique index.
+	 * @param indexName        The actual name of the index in the database (for
+	 *                         comments).
+	 * @param cached           Whether the table is cached, in which case the DAO
+	 *                         caches are emptied after the delete.
+	 * @return The generated source code string for the delete-by-unique-index
+	 *         method.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateDeleteByUniqueIndexMethodFromTemplate(String tableName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String indexName, boolean cached) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_method_delete_unique.template");
+		
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+		
+		// Construct SQL parts. Use backticks.
+		String whereClause = indexColumns.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
+		String sql = String.format("DELETE FROM `%s` WHERE %s", tableName, whereClause); // Add backticks
+		
+		// Construct the full method name.
+		String methodName = "delete" + methodNameSuffix;
+
+		values.put("tableName", tableName);
+		values.put("indexPojoName", indexPojoName);
+		values.put("methodNameSuffix", methodNameSuffix);
+		values.put("methodName", methodName);
+		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", ")));
+		values.put("indexName", indexName);
+		values.put("sqlQuery", sql);
+		
+		// Generate parameter setting block for index columns, using "uniqueData" as variable name.
+		values.put("parameter_setting_block", generateParameterSettingBlock(indexColumns, "uniqueData", "\t\t\t"));
+
+		// The deleted row cannot be located in the primary key cache from its unique key.
+		values.put("cacheInvalidation", cached ? "\n\t\t\tinvalidateCache();" : "");
+		values.put("methodWrapper", generateMethodWrapper(tableName, "int", methodName, indexPojoName + " uniqueData",
+			generateQueryLogValues(sql, indexName, indexColumns, "uniqueData", null)));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the source code for a 'get' method based on a non-unique index
+	 * using its template. Returns an array of results.
+	 *
+	 * @param tableName        Name of the database table.
+	 * @param dataPojoName     Name of the main data POJO class.
+	 * @param indexPojoName    Name of the POJO representing the index columns.
+	 * @param methodNameSuffix Suffix for the method name (e.g., "ByStatus").
+	 * @param indexColumns     List of columns composing the index.
+	 * @param selectColumns    List of columns to select, in the order read by the
+	 *                         mapping method.
+	 * @param mapRowMethodName Name of the row mapping helper method.
+	 * @param indexName        The actual name of the index in the database (for
+	 *                         comments).
+	 * @param projectionNote   Javadoc note appended to the method description
+	 *                         (empty for the full-row variant).
+	 * @return The generated source code string for the get-by-index method.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateGetByIndexMethodFromTemplate(String tableName, String dataPojoName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, List<ColumnInfo> selectColumns, String mapRowMethodName, String indexName, String projectionNote) throws IOException {
 		// Load template.
-		String template = loadTemplate("dao_method_get_unique.template");
+		Template template = loadTemplate("dao_method_get_index.template");
 		
 		// Prepare values.
 		Map<String, String> values = new HashMap<>();
 		
 		// Construct SQL parts. Use backticks.
 		String whereClause = indexColumns.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
-		String sql = String.format("SELECT * FROM `%s` WHERE %s", tableName, whereClause); // Add backticks
+		String sql = String.format("SELECT %s FROM `%s` WHERE %s", generateSelectColumnsClause(selectColumns), tableName, whereClause); // Add backticks
 		
 		// Construct the full method name.
 		String methodName = "get" + methodNameSuffix;
@@ -1085,105 +2749,227 @@ public class DaoGenerator {
 		values.put("tableName", tableName);
 		values.put("dataPojoName", dataPojoName);
 		values.put("indexPojoName", indexPojoName);
-		values.put("methodNameSuffix", methodNameSuffix); // Keep suffix if needed by template logic
-		values.put("methodName", methodName); // Full method name
-		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", "))); // For Javadoc
-		values.put("indexName", indexName); // For Javadoc
+		values.put("projectionNote", projectionNote);
+		values.put("methodNameSuffix", methodNameSuffix);
+		values.put("methodName", methodName);
+		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", ")));
+		values.put("indexName", indexName);
+		values.put("sqlQuery", sql);
+		
+		// Generate parameter setting block for index columns, using "indexData" as variable name.
+		values.put("parameter_setting_block", generateParameterSettingBlock(indexColumns, "indexData", "\t\t\t"));
+		values.put("mapRowMethodName", mapRowMethodName);
+		values.put("methodWrapper", generateMethodWrapper(tableName, dataPojoName + "[]", methodName, indexPojoName + " indexData",
+			generateQueryLogValues(sql, indexName, indexColumns, "indexData", null)));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the source code for the keyset pagination method of a non-unique
+	 * index using its template. Rows matching the index values are read in primary
+	 * key order, seeking past the key of the last row of the previous page:
+	 * {@code WHERE idx = ? AND <seek> ORDER BY idx, pk LIMIT ?}, where the seek
+	 * condition is the expanded row comparison of {@link #generateKeysetSeekClause(List)}.
+	 *
+	 * @param tableName        Name of the database table.
+	 * @param dataPojoName     Name of the main data POJO class.
+	 * @param pkPojoName       Name of the primary key POJO class (type of the continuation token).
+	 * @param indexPojoName    Name of the POJO representing the index columns.
+	 * @param methodNameSuffix Suffix for the method name (e.g., "ByIndexLastname").
+	 * @param indexColumns     List of columns composing the index.
+	 * @param primaryKeys      List of columns composing the primary key.
+	 * @param selectColumns    List of columns to select, in the order read by the
+	 *                         mapping method.
+	 * @param mapRowMethodName Name of the row mapping helper method.
+	 * @param indexName        The actual name of the index in the database (for
+	 *                         Javadoc).
+	 * @return The generated source code string for the pagination method.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generatePageByIndexMethodFromTemplate(String tableName, String dataPojoName, String pkPojoName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, List<ColumnInfo> primaryKeys, List<ColumnInfo> selectColumns, String mapRowMethodName, String indexName) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_method_page_index.template");
+
+		// Construct SQL parts: the index order is followed so that no sort is needed.
+		String whereClause = indexColumns.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
+		String orderBy = Stream.concat(indexColumns.stream(), primaryKeys.stream()).map(c -> "`" + c.dbName + "`").distinct().collect(Collectors.joining(", "));
+		String select = String.format("SELECT %s FROM `%s` WHERE %s", generateSelectColumnsClause(selectColumns), tableName, whereClause);
+
+		Map<String, String> values = new HashMap<>();
+		values.put("tableName", tableName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("pkPojoName", pkPojoName);
+		values.put("indexPojoName", indexPojoName);
+		values.put("methodNameSuffix", methodNameSuffix);
+		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", ")));
+		values.put("indexName", indexName);
+		String sql = select + " AND " + generateKeysetSeekClause(primaryKeys) + " ORDER BY " + orderBy + " LIMIT ?";
+		String firstPageSql = select + " ORDER BY " + orderBy + " LIMIT ?";
 		values.put("sqlQuery", sql);
-		
-		// Generate parameter setting block for index columns, using "uniqueData" as variable name.
-		values.put("parameter_setting_block", generateParameterSettingBlock(indexColumns, "uniqueData", "\t\t\t"));
+		values.put("firstPageSqlQuery", firstPageSql);
+		values.put("parameter_setting_block", generateIndexedParameterSettingBlock(indexColumns, "indexData", "\t\t\t", "idx"));
+		values.put("seek_parameter_setting_block", generateKeysetSeekParameterBlock(primaryKeys, "afterKey", "\t\t\t\t"));
 		values.put("mapRowMethodName", mapRowMethodName);
+		values.put("pkFromData", generatePkFromData(pkPojoName, primaryKeys));
+
+		// The first page binds the index columns only, the next ones the key of the last row too.
+		List<ColumnInfo> seekColumns = generateKeysetSeekColumns(primaryKeys);
+		List<ColumnInfo> boundColumns = new ArrayList<>(indexColumns);
+		boundColumns.addAll(seekColumns);
+		List<String> boundVariables = new ArrayList<>(Collections.nCopies(indexColumns.size(), "indexData"));
+		boundVariables.addAll(Collections.nCopies(seekColumns.size(), "afterKey"));
+		values.put("methodWrapper", generateMethodWrapper(tableName, "DaoPage<" + dataPojoName + ", " + pkPojoName + ">", "page" + methodNameSuffix,
+			indexPojoName + " indexData, " + pkPojoName + " afterKey, int limit",
+			chooseQueryLogValues("afterKey == null", generateQueryLogValues(firstPageSql, indexName, indexColumns, "indexData", null),
+				generateQueryLogValues(sql, indexName, boundColumns, boundVariables, null))));
 
 		// Replace and return.
 		return replacePlaceholders(template, values);
 	}
 
 	/**
-	 * Generates the source code for a 'delete' method based on a unique index using
-	 * its template.
+	 * Generates the source code for the 'pageAll' method using its template. Rows
+	 * are read in primary key order, seeking past the key of the last row of the
+	 * previous page: {@code WHERE <seek> ORDER BY pk LIMIT ?}.
 	 *
 	 * @param tableName        Name of the database table.
-	 * @param indexPojoName    Name of the POJO representing the unique index
-	 *                         columns.
-	 * @param methodNameSuffix Suffix for the method name (e.g., "ByUserIdEmail").
-	 * @param indexColumns     List of columns composing the unique index.
-	 * @param indexName        The actual name of the index in the database (for
-	 *                         comments).
-	 * @return The generated source code string for the delete-by-unique-index
-	 *         method.
+	 * @param dataPojoName     Name of the main data POJO class.
+	 * @param pkPojoName       Name of the primary key POJO class (type of the continuation token).
+	 * @param primaryKeys      List of columns composing the primary key.
+	 * @param selectColumns    List of columns to select, in the order read by the
+	 *                         mapping method.
+	 * @param mapRowMethodName Name of the row mapping helper method.
+	 * @return The generated source code string for the pagination method.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateDeleteByUniqueIndexMethodFromTemplate(String tableName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String indexName) throws IOException {
+	private String generatePageAllMethodFromTemplate(String tableName, String dataPojoName, String pkPojoName, List<ColumnInfo> primaryKeys, List<ColumnInfo> selectColumns, String mapRowMethodName) throws IOException {
 		// Load template.
-		String template = loadTemplate("dao_method_delete_unique.template");
-		
-		// Prepare values.
-		Map<String, String> values = new HashMap<>();
-		
-		// Construct SQL parts. Use backticks.
-		String whereClause = indexColumns.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
-		String sql = String.format("DELETE FROM `%s` WHERE %s", tableName, whereClause); // Add backticks
-		
-		// Construct the full method name.
-		String methodName = "delete" + methodNameSuffix;
+		Template template = loadTemplate("dao_method_page_all.template");
+
+		String orderBy = primaryKeys.stream().map(c -> "`" + c.dbName + "`").collect(Collectors.joining(", "));
+		String select = String.format("SELECT %s FROM `%s`", generateSelectColumnsClause(selectColumns), tableName);
 
+		Map<String, String> values = new HashMap<>();
 		values.put("tableName", tableName);
-		values.put("indexPojoName", indexPojoName);
-		values.put("methodNameSuffix", methodNameSuffix);
-		values.put("methodName", methodName);
-		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", ")));
-		values.put("indexName", indexName);
+		values.put("dataPojoName", dataPojoName);
+		values.put("pkPojoName", pkPojoName);
+		values.put("pkColumnsList", primaryKeys.stream().map(c -> c.dbName).collect(Collectors.joining(", ")));
+		String sql = select + " WHERE " + generateKeysetSeekClause(primaryKeys) + " ORDER BY " + orderBy + " LIMIT ?";
+		String firstPageSql = select + " ORDER BY " + orderBy + " LIMIT ?";
 		values.put("sqlQuery", sql);
-		
-		// Generate parameter setting block for index columns, using "uniqueData" as variable name.
-		values.put("parameter_setting_block", generateParameterSettingBlock(indexColumns, "uniqueData", "\t\t\t"));
+		values.put("firstPageSqlQuery", firstPageSql);
+		values.put("seek_parameter_setting_block", generateKeysetSeekParameterBlock(primaryKeys, "afterPk", "\t\t\t\t"));
+		values.put("mapRowMethodName", mapRowMethodName);
+		values.put("pkFromData", generatePkFromData(pkPojoName, primaryKeys));
+
+		// The first page binds no column, the next ones the key of the last row.
+		values.put("methodWrapper", generateMethodWrapper(tableName, "DaoPage<" + dataPojoName + ", " + pkPojoName + ">", "pageAll", pkPojoName + " afterPk, int limit",
+			chooseQueryLogValues("afterPk == null", generateQueryLogValues(firstPageSql, "PRIMARY", Collections.emptyList(), "afterPk", null),
+				generateQueryLogValues(sql, "PRIMARY", generateKeysetSeekColumns(primaryKeys), "afterPk", null))));
 
 		// Replace and return.
 		return replacePlaceholders(template, values);
 	}
 
 	/**
-	 * Generates the source code for a 'get' method based on a non-unique index
-	 * using its template. Returns an array of results.
+	 * Generates the condition selecting the rows whose key comes after a given key,
+	 * in key order. Composite keys are expanded into
+	 * {@code (a > ? OR (a = ? AND b > ?))} rather than written as the row comparison
+	 * {@code (a, b) > (?, ?)}, which older MySQL versions cannot resolve with an
+	 * index range scan.
+	 *
+	 * @param keyColumns The columns of the key, in order.
+	 * @return The condition, with one placeholder group per key prefix.
+	 */
+	private static String generateKeysetSeekClause(List<ColumnInfo> keyColumns) {
+		List<String> terms = new ArrayList<>();
+		for (int i = 0; i < keyColumns.size(); i++) {
+			StringBuilder term = new StringBuilder();
+			for (int j = 0; j < i; j++) {
+				term.append("`").append(keyColumns.get(j).dbName).append("` = ? AND ");
+			}
+			term.append("`").append(keyColumns.get(i).dbName).append("` > ?");
+			terms.add(i == 0 ? term.toString() : "(" + term + ")");
+		}
+		return (terms.size() == 1) ? terms.get(0) : "(" + String.join(" OR ", terms) + ")";
+	}
+
+	/**
+	 * Generates the parameter setting block of the condition produced by
+	 * {@link #generateKeysetSeekClause(List)}, binding the key prefixes in order with
+	 * the running index {@code idx}.
+	 *
+	 * @param keyColumns       The columns of the key, in order.
+	 * @param pojoVariableName The name of the variable holding the key.
+	 * @param indentation      A string used for indenting each generated line.
+	 * @return The parameter setting lines.
+	 */
+	private String generateKeysetSeekParameterBlock(List<ColumnInfo> keyColumns, String pojoVariableName, String indentation) {
+		List<String> blocks = new ArrayList<>();
+		for (int i = 1; i <= keyColumns.size(); i++) {
+			blocks.add(generateIndexedParameterSettingBlock(keyColumns.subList(0, i), pojoVariableName, indentation, "idx"));
+		}
+		return String.join("\n", blocks);
+	}
+
+	/**
+	 * Generates the expression building the primary key POJO of a mapped row held
+	 * in a variable named {@code data}, in PK POJO constructor order.
+	 *
+	 * @param pkPojoName  Name of the primary key POJO class.
+	 * @param primaryKeys List of columns composing the primary key.
+	 * @return The constructor call expression.
+	 */
+	private static String generatePkFromData(String pkPojoName, List<ColumnInfo> primaryKeys) {
+		return primaryKeys.stream()
+			.map(c -> "data.get" + Name.toClassName(c.javaName) + "()")
+			.collect(Collectors.joining(", ", "new " + pkPojoName + "(", ")"));
+	}
+
+	/**
+	 * Generates the source code for the 'stream' and 'forEach' methods based on a
+	 * non-unique index using their template. Rows are read lazily from a
+	 * forward-only cursor instead of being buffered into an array.
 	 *
 	 * @param tableName        Name of the database table.
 	 * @param dataPojoName     Name of the main data POJO class.
 	 * @param indexPojoName    Name of the POJO representing the index columns.
 	 * @param methodNameSuffix Suffix for the method name (e.g., "ByStatus").
 	 * @param indexColumns     List of columns composing the index.
+	 * @param selectColumns    List of columns to select, in the order read by the
+	 *                         mapping method.
 	 * @param mapRowMethodName Name of the row mapping helper method.
 	 * @param indexName        The actual name of the index in the database (for
 	 *                         comments).
-	 * @return The generated source code string for the get-by-index method.
+	 * @return The generated source code string for the streaming methods.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateGetByIndexMethodFromTemplate(String tableName, String dataPojoName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String mapRowMethodName, String indexName) throws IOException {
+	private String generateStreamByIndexMethodFromTemplate(String tableName, String dataPojoName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, List<ColumnInfo> selectColumns, String mapRowMethodName, String indexName) throws IOException {
 		// Load template.
-		String template = loadTemplate("dao_method_get_index.template");
-		
+		Template template = loadTemplate("dao_method_stream_index.template");
+
 		// Prepare values.
 		Map<String, String> values = new HashMap<>();
-		
-		// Construct SQL parts. Use backticks.
+
+		// Same query as the buffering get-by-index method. Use backticks.
 		String whereClause = indexColumns.stream().map(c -> "`" + c.dbName + "` = ?").collect(Collectors.joining(" AND "));
-		String sql = String.format("SELECT * FROM `%s` WHERE %s", tableName, whereClause); // Add backticks
-		
-		// Construct the full method name.
-		String methodName = "get" + methodNameSuffix;
+		String sql = String.format("SELECT %s FROM `%s` WHERE %s", generateSelectColumnsClause(selectColumns), tableName, whereClause);
 
 		values.put("tableName", tableName);
 		values.put("dataPojoName", dataPojoName);
 		values.put("indexPojoName", indexPojoName);
 		values.put("methodNameSuffix", methodNameSuffix);
-		values.put("methodName", methodName);
 		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", ")));
 		values.put("indexName", indexName);
 		values.put("sqlQuery", sql);
-		
+
 		// Generate parameter setting block for index columns, using "indexData" as variable name.
 		values.put("parameter_setting_block", generateParameterSettingBlock(indexColumns, "indexData", "\t\t\t"));
 		values.put("mapRowMethodName", mapRowMethodName);
+		values.put("methodWrapper", generateMethodWrapper(tableName, "Stream<" + dataPojoName + ">", "stream" + methodNameSuffix, indexPojoName + " indexData",
+			generateQueryLogValues(sql, indexName, indexColumns, "indexData", null)));
 
 		// Replace and return.
 		return replacePlaceholders(template, values);
@@ -1199,12 +2985,14 @@ public class DaoGenerator {
 	 * @param indexColumns     List of columns composing the index.
 	 * @param indexName        The actual name of the index in the database (for
 	 *                         comments).
+	 * @param cached           Whether the table is cached, in which case the DAO
+	 *                         caches are emptied after the delete.
 	 * @return The generated source code string for the delete-by-index method.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateDeleteByIndexMethodFromTemplate(String tableName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String indexName) throws IOException {
+	private String generateDeleteByIndexMethodFromTemplate(String tableName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String indexName, boolean cached) throws IOException {
 		// Load template.
-		String template = loadTemplate("dao_method_delete_index.template");
+		Template template = loadTemplate("dao_method_delete_index.template");
 		
 		// Prepare values.
 		Map<String, String> values = new HashMap<>();
@@ -1226,11 +3014,409 @@ public class DaoGenerator {
 		
 		// Generate parameter setting block for index columns, using "indexData" as variable name.
 		values.put("parameter_setting_block", generateParameterSettingBlock(indexColumns, "indexData", "\t\t\t"));
+		values.put("cacheInvalidation", cached ? "\n\t\t\tinvalidateCache();" : "");
+		values.put("methodWrapper", generateMethodWrapper(tableName, "int", methodName, indexPojoName + " indexData",
+			generateQueryLogValues(sql, indexName, indexColumns, "indexData", null)));
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the wrappers of a DAO method accessing the database, rendered into the
+	 * {@code ${methodWrapper}} slot that opens the body of the method in its template.
+	 * With metrics, the method is split into a public method reporting its duration,
+	 * row count and failure to {@code DaoContext.getMetrics()} under the key
+	 * "XxxDao.method", and a private {@code xxxUnmetered} method. With slow-query
+	 * logging, the (remaining) method is split into a method timing the call and a
+	 * private {@code xxxUnlogged} method holding the original body; calls lasting at
+	 * least the threshold of {@code DaoSlowQueryLog} are reported under "XxxDao.method"
+	 * with the statement described by {@code queryValues}. Methods delegating to other
+	 * DAO methods (e.g., {@code insertBatch}, {@code forEachByXxx}) have no slot, so that
+	 * each database access is counted once; cached lookups are only metered, with their
+	 * cache hits, the query being logged by the {@code xxxUncached} method they call.
+	 *
+	 * @param tableName   Name of the database table.
+	 * @param returnType  The return type of the method, as declared by its template.
+	 * @param methodName  The name of the method.
+	 * @param parameters  The parameter list of the method, as declared by its template.
+	 * @param queryValues The statement of the method, see
+	 *                    {@link #generateQueryLogValues(String, String, List, List, String)},
+	 *                    or null if the method is not logged.
+	 * @return The wrappers, ending with the signature line of the innermost private
+	 *         method, or an empty string if metrics and slow-query logging are disabled.
+	 * @throws IOException If a template cannot be read.
+	 */
+	private String generateMethodWrapper(String tableName, String returnType, String methodName, String parameters, Map<String, String> queryValues) throws IOException {
+		String qualifiedName = Name.toClassName(tableName) + "Dao." + methodName;
+		Map<String, String> values = generateWrapperValues(returnType, methodName, parameters);
+		StringBuilder sb = new StringBuilder();
+
+		// Metrics around the slow-query logging, which is then the body of the unmetered method.
+		if (generateMetrics) {
+			values.put("metricName", qualifiedName);
+			sb.append('\n').append(replacePlaceholders(loadTemplate("dao_method_metered.template"), values));
+		}
+		if (generateSlowQueryLog && queryValues != null) {
+			values.putAll(queryValues);
+			values.put("logName", qualifiedName);
+			sb.append('\n').append(replacePlaceholders(loadTemplate("dao_method_slow_query_logged.template"), values));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Builds the description of the statement of a DAO method reported by its
+	 * slow-query logging wrapper, with the columns bound from a single variable.
+	 *
+	 * @param sql           The SQL statement.
+	 * @param indexName     The index used to find the rows, or null if none (inserts).
+	 * @param columns       The columns bound to the parameters, in binding order.
+	 * @param variableName  The name of the variable holding the bound values.
+	 * @param batchVariable The name of the collection whose rows the variable holds in
+	 *                      turn (batch methods), or null.
+	 * @return The values of sql, indexName, parameterColumns, parameterTypes,
+	 *         parameterValues and batch.
+	 */
+	private static Map<String, String> generateQueryLogValues(String sql, String indexName, List<ColumnInfo> columns, String variableName, String batchVariable) {
+		return generateQueryLogValues(sql, indexName, columns, Collections.nCopies(columns.size(), variableName), batchVariable);
+	}
+
+	/**
+	 * Builds the description of the statement of a DAO method reported by its
+	 * slow-query logging wrapper: Java expressions of the SQL statement, the index,
+	 * the names and types of the bound columns and their values, read from the
+	 * method's arguments once the call turned out to be slow. The values of a batch
+	 * method are those of its first row.
+	 *
+	 * @param sql           The SQL statement.
+	 * @param indexName     The index used to find the rows, or null if none (inserts).
+	 * @param columns       The columns bound to the parameters, in binding order.
+	 * @param variables     The name of the variable holding the value of each column.
+	 * @param batchVariable The name of the collection whose rows the variables hold in
+	 *                      turn (batch methods), or null.
+	 * @return The values of sql, indexName, parameterColumns, parameterTypes,
+	 *         parameterValues and batch.
+	 */
+	private static Map<String, String> generateQueryLogValues(String sql, String indexName, List<ColumnInfo> columns, List<String> variables, String batchVariable) {
+		List<String> getters = new ArrayList<>();
+		for (int i = 0; i < columns.size(); i++) {
+			getters.add(variables.get(i) + ".get" + Name.toClassName(columns.get(i).javaName) + "()");
+		}
+		Set<String> distinctVariables = new LinkedHashSet<>(variables);
+
+		// The arguments may be null, in which case the call failed before binding them.
+		String parameterValues;
+		if (columns.isEmpty()) {
+			parameterValues = "null";
+		} else if (batchVariable != null) {
+			parameterValues = String.format("DaoSlowQueryLog.firstRow(%s, %s -> new Object[] {%s})", batchVariable, variables.get(0), String.join(", ", getters));
+		} else if (distinctVariables.size() == 1) {
+			parameterValues = String.format("(%s == null) ? null : new Object[] {%s}", variables.get(0), String.join(", ", getters));
+		} else {
+			List<String> checkedGetters = new ArrayList<>();
+			for (int i = 0; i < columns.size(); i++) {
+				checkedGetters.add("(" + variables.get(i) + " == null) ? null : " + getters.get(i));
+			}
+			parameterValues = "new Object[] {" + String.join(", ", checkedGetters) + "}";
+		}
+
+		Map<String, String> values = new HashMap<>();
+		values.put("sql", "\"" + sql + "\"");
+		values.put("indexName", (indexName == null) ? "null" : "\"" + indexName + "\"");
+		values.put("parameterColumns", columns.stream().map(c -> "\"" + c.dbName + "\"").collect(Collectors.joining(", ", "new String[] {", "}")));
+		values.put("parameterTypes", columns.stream().map(c -> "\"" + c.javaType.substring(c.javaType.lastIndexOf('.') + 1) + "\"").collect(Collectors.joining(", ", "new String[] {", "}")));
+		values.put("parameterValues", parameterValues);
+		values.put("batch", String.valueOf(batchVariable != null));
+		return values;
+	}
+
+	/**
+	 * Combines the descriptions of the two statements a DAO method chooses between
+	 * (e.g., the first and next pages of the pagination methods), so that the
+	 * slow-query log reports the statement actually executed.
+	 *
+	 * @param condition The condition choosing the first statement, a null check of
+	 *                  an argument (e.g., "afterKey == null").
+	 * @param whenTrue  The description of the first statement.
+	 * @param whenFalse The description of the second statement.
+	 * @return Conditional expressions for the values that differ.
+	 */
+	private static Map<String, String> chooseQueryLogValues(String condition, Map<String, String> whenTrue, Map<String, String> whenFalse) {
+		Map<String, String> values = new HashMap<>();
+		for (Map.Entry<String, String> value : whenTrue.entrySet()) {
+			// The second statement is only executed when the argument is not null.
+			String first = value.getValue();
+			String second = whenFalse.get(value.getKey()).replace("(" + condition + ") ? null : ", "");
+			if (first.equals(second)) {
+				values.put(value.getKey(), first);
+			} else {
+				values.put(value.getKey(), "(" + condition + ") ? " + parenthesizeConditional(first) + " : " + parenthesizeConditional(second));
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Wraps an expression in parentheses if it is a conditional expression, to be
+	 * nested in another one.
+	 *
+	 * @param expression The Java expression.
+	 * @return The expression, in parentheses if needed.
+	 */
+	private static String parenthesizeConditional(String expression) {
+		return expression.startsWith("(") && expression.contains(" ? ") ? "(" + expression + ")" : expression;
+	}
+
+	/**
+	 * Lists the columns bound by the condition produced by
+	 * {@link #generateKeysetSeekClause(List)}, in binding order.
+	 *
+	 * @param keyColumns The columns of the key, in order.
+	 * @return The columns of each key prefix, in turn.
+	 */
+	private static List<ColumnInfo> generateKeysetSeekColumns(List<ColumnInfo> keyColumns) {
+		List<ColumnInfo> columns = new ArrayList<>();
+		for (int i = 1; i <= keyColumns.size(); i++) {
+			columns.addAll(keyColumns.subList(0, i));
+		}
+		return columns;
+	}
+
+	/**
+	 * Builds the placeholder values shared by the templates wrapping a DAO method
+	 * (metrics, slow-query logging), which call the original method renamed with a suffix.
+	 *
+	 * @param returnType The return type of the method.
+	 * @param methodName The name of the method.
+	 * @param parameters The parameter list of the method, as declared.
+	 * @return The values of returnType, methodName, parameters, arguments, returnKeyword,
+	 *         voidReturn, resultAssignment, resultReturn and rowCount.
+	 */
+	private static Map<String, String> generateWrapperValues(String returnType, String methodName, String parameters) {
+		boolean isVoid = "void".equals(returnType);
+		Map<String, String> values = new HashMap<>();
+		values.put("returnType", returnType);
+		values.put("methodName", methodName);
+		values.put("parameters", parameters);
+		values.put("arguments", String.join(", ", toArgumentNames(parameters)));
+		values.put("returnKeyword", isVoid ? "" : "return ");
+		values.put("voidReturn", isVoid ? "\n\t\t\treturn;" : "");
+		values.put("resultAssignment", isVoid ? "" : returnType + " result = ");
+		values.put("resultReturn", isVoid ? "" : "\n\t\t\treturn result;");
+		values.put("rowCount", generateRowCountExpression(returnType, "result"));
+		return values;
+	}
+
+	/**
+	 * Extracts the parameter names of a method parameter list: the last word of each
+	 * parameter, generic types possibly containing commas.
+	 *
+	 * @param parameters The parameter list, as declared (e.g., "Map<K, V> map, int size").
+	 * @return The parameter names, in order.
+	 */
+	private static List<String> toArgumentNames(String parameters) {
+		List<String> arguments = new ArrayList<>();
+		int depth = 0;
+		int start = 0;
+		for (int i = 0; i <= parameters.length(); i++) {
+			char c = (i < parameters.length()) ? parameters.charAt(i) : ',';
+			if (c == '<') {
+				depth++;
+			} else if (c == '>') {
+				depth--;
+			} else if (c == ',' && depth == 0) {
+				String parameter = parameters.substring(start, i).trim();
+				if (!parameter.isEmpty()) {
+					arguments.add(parameter.substring(parameter.lastIndexOf(' ') + 1));
+				}
+				start = i + 1;
+			}
+		}
+		return arguments;
+	}
+
+	/**
+	 * Generates the expression counting the rows returned or affected by a DAO method,
+	 * from its result.
+	 *
+	 * @param returnType   The return type of the method.
+	 * @param variableName The variable holding the result.
+	 * @return An int expression, -1 when the count is unknown (streams).
+	 */
+	private static String generateRowCountExpression(String returnType, String variableName) {
+		if ("void".equals(returnType)) {
+			return "1"; // Single-row insert.
+		} else if ("int".equals(returnType)) {
+			return variableName;
+		} else if ("int[]".equals(returnType)) {
+			return "Math.max(-1, DaoContext.sumUpdateCounts(" + variableName + "))";
+		} else if ("boolean".equals(returnType)) {
+			return variableName + " ? 1 : 0";
+		} else if (returnType.endsWith("[]")) {
+			return variableName + ".length";
+		} else if (returnType.startsWith("Map<") || returnType.startsWith("List<")) {
+			return variableName + ".size()";
+		} else if (returnType.startsWith("DaoPage<")) {
+			return variableName + ".getItems().size()";
+		} else if (returnType.startsWith("Stream<")) {
+			return "-1"; // Rows are read after the method returned.
+		}
+		return variableName + " == null ? 0 : 1";
+	}
+
+	/**
+	 * Generates the source code of a method of the asynchronous DAO facade, which
+	 * runs the DAO method of the same name on the {@code DaoExecutor} and returns a
+	 * {@code CompletableFuture} of its result.
+	 *
+	 * @param daoClassName Name of the DAO class.
+	 * @param methodName   Name of the DAO method (e.g., "getByUniqueEmail").
+	 * @param paramType    Type of the single parameter of the method.
+	 * @param paramName    Name of the parameter.
+	 * @param paramDoc     Javadoc description of the parameter.
+	 * @param resultType   Type of the future's result ("Void" for void methods,
+	 *                     wrapper types for primitives).
+	 * @param resultDoc    Javadoc description of the future's result.
+	 * @return The generated source code string for the async method.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateAsyncMethodFromTemplate(String daoClassName, String methodName, String paramType, String paramName, String paramDoc, String resultType, String resultDoc) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_async_method.template");
+
+		// Void methods need a block lambda returning null.
+		String call = "Void".equals(resultType)
+			? String.format("() -> {\n\t\t\tdao.%s(%s);\n\t\t\treturn null;\n\t\t}", methodName, paramName)
+			: String.format("() -> dao.%s(%s)", methodName, paramName);
+
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+		values.put("daoClassName", daoClassName);
+		values.put("methodName", methodName);
+		values.put("paramType", paramType);
+		values.put("paramName", paramName);
+		values.put("paramDoc", paramDoc);
+		values.put("resultType", resultType);
+		values.put("resultDoc", resultDoc);
+		values.put("call", call);
+
+		// Replace and return.
+		return replacePlaceholders(template, values);
+	}
+
+	/**
+	 * Generates the exists filter fields and management methods of a table: one
+	 * {@code DaoExistsFilter} per filtered unique index, built from a scan of the
+	 * index columns, plus 'getExistsFilters' and 'invalidateExistsFilters'.
+	 *
+	 * @param tableName     Name of the database table.
+	 * @param existsFilters The columns of the filtered unique indexes, by method
+	 *                      name suffix.
+	 * @return The generated source code string for the filter members.
+	 * @throws IOException If the template cannot be read.
+	 */
+	private String generateExistsFilterMethodsFromTemplate(String tableName, Map<String, List<ColumnInfo>> existsFilters) throws IOException {
+		// Load template.
+		Template template = loadTemplate("dao_method_exists_filter.template");
+
+		// One filter per unique index, hashing the scanned columns like the lookup keys.
+		List<String> fields = new ArrayList<>();
+		List<String> filterNames = new ArrayList<>();
+		for (Map.Entry<String, List<ColumnInfo>> filter : existsFilters.entrySet()) {
+			String field = toConstantName("EXISTS_FILTER", filter.getKey());
+			List<ColumnInfo> indexColumns = filter.getValue();
+			String scanSql = String.format("SELECT %s FROM `%s`", generateSelectColumnsClause(indexColumns), tableName);
+			List<String> readers = new ArrayList<>();
+			for (int i = 0; i < indexColumns.size(); i++) {
+				readers.add("rs." + Type.toResultSetGetter(indexColumns.get(i).javaType) + "(" + (i + 1) + ")");
+			}
+			fields.add(String.format("\t/**\n\t * Keys of {@code exists%s}.\n\t */\n\tprivate static final DaoExistsFilter %s = DaoExistsFilter.fromProperties(\"%s\", \"exists%s\",\n\t\t\"%s\", rs -> DaoExistsFilter.hash(%s));",
+				filter.getKey(), field, tableName, filter.getKey(), scanSql, String.join(", ", readers)));
+			filterNames.add(field);
+		}
+
+		// Prepare values.
+		Map<String, String> values = new HashMap<>();
+		values.put("tableName", tableName);
+		values.put("filterFields", String.join("\n\n", fields));
+		values.put("filterList", String.join(", ", filterNames));
+		values.put("invalidateStatements", filterNames.stream().map(f -> "\t\t" + f + ".invalidate();").collect(Collectors.joining("\n")));
 
 		// Replace and return.
 		return replacePlaceholders(template, values);
 	}
 
+	/**
+	 * Generates the statements adding the keys of a row to the exists filters of
+	 * its table, one line per filter (e.g.,
+	 * {@code EXISTS_FILTER_BY_UNIQUE_EMAIL.add(DaoExistsFilter.hash(data.getEmail()));}).
+	 *
+	 * @param existsFilters The columns of the filtered unique indexes, by method
+	 *                      name suffix.
+	 * @param variableName  The name of the variable holding the row.
+	 * @param indentation   The indentation of each statement.
+	 * @return The statements, each preceded by a line break, or an empty string if
+	 *         the table has no exists filter.
+	 */
+	private String generateExistsFilterUpdate(Map<String, List<ColumnInfo>> existsFilters, String variableName, String indentation) {
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, List<ColumnInfo>> filter : existsFilters.entrySet()) {
+			sb.append('\n').append(indentation).append(toConstantName("EXISTS_FILTER", filter.getKey()))
+				.append(".add(").append(generateExistsFilterHash(filter.getValue(), variableName)).append(");");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Generates a loop adding the keys of the rows written by a batch method
+	 * (variable 'dataList') to the exists filters of its table.
+	 *
+	 * @param existsFilters The columns of the filtered unique indexes, by method
+	 *                      name suffix.
+	 * @param dataPojoName  Name of the POJO class representing table data.
+	 * @param indentation   The indentation of the loop.
+	 * @return The loop, preceded by a line break, or an empty string if the table
+	 *         has no exists filter.
+	 */
+	private String generateExistsFilterBatchUpdate(Map<String, List<ColumnInfo>> existsFilters, String dataPojoName, String indentation) {
+		if (existsFilters.isEmpty()) {
+			return "";
+		}
+		return "\n" + indentation + "for (" + dataPojoName + " data : dataList) {"
+			+ generateExistsFilterUpdate(existsFilters, "data", indentation + "\t")
+			+ "\n" + indentation + "}";
+	}
+
+	/**
+	 * Generates the expression hashing an index key for its exists filter (e.g.,
+	 * {@code DaoExistsFilter.hash(indexData.getEmail())}).
+	 *
+	 * @param indexColumns The columns of the index, in index order.
+	 * @param variableName The name of the variable holding the key (an index POJO
+	 *                     or a row).
+	 * @return The hash expression.
+	 */
+	private String generateExistsFilterHash(List<ColumnInfo> indexColumns, String variableName) {
+		return indexColumns.stream()
+			.map(c -> variableName + ".get" + Name.toClassName(c.javaName) + "()")
+			.collect(Collectors.joining(", ", "DaoExistsFilter.hash(", ")"));
+	}
+
+	/**
+	 * Returns the columns of an index, in index order.
+	 *
+	 * @param index      The index.
+	 * @param allColumns List of all columns in the table.
+	 * @return The columns of the index found in the table (empty if none).
+	 */
+	private static List<ColumnInfo> getIndexColumns(IndexInfo index, List<ColumnInfo> allColumns) {
+		List<String> order = new ArrayList<>(index.columnDbNames);
+		return allColumns.stream().filter(c -> index.columnDbNames.contains(c.dbName))
+			.sorted(Comparator.comparingInt(c -> order.indexOf(c.dbName)))
+			.collect(Collectors.toList());
+	}
+
 	/**
 	 * Generates the source code for an 'exists' check method based on index columns
 	 * using its template.
@@ -1241,12 +3427,15 @@ public class DaoGenerator {
 	 * @param indexColumns     List of columns composing the index.
 	 * @param indexName        The actual name of the index in the database (for
 	 *                         comments).
+	 * @param filtered         Whether the lookup first checks the exists filter of
+	 *                         the index, answering false without a query when the
+	 *                         key is definitely absent.
 	 * @return The generated source code string for the exists-by-index method.
 	 * @throws IOException If the template cannot be read.
 	 */
-	private String generateExistsByIndexMethodFromTemplate(String tableName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String indexName) throws IOException {
+	private String generateExistsByIndexMethodFromTemplate(String tableName, String indexPojoName, String methodNameSuffix, List<ColumnInfo> indexColumns, String indexName, boolean filtered) throws IOException {
 		// Load template.
-		String template = loadTemplate("dao_method_exists_by_index.template");
+		Template template = loadTemplate("dao_method_exists_by_index.template");
 		
 		// Prepare values.
 		Map<String, String> values = new HashMap<>();
@@ -1265,12 +3454,19 @@ public class DaoGenerator {
 		values.put("methodNameSuffix", methodNameSuffix);
 		values.put("indexColumnsList", indexColumns.stream().map(c -> c.dbName).collect(Collectors.joining(", ")));
 		values.put("indexName", indexName);
-		values.put("sqlQuery", sql); // Pass SQL though template might not use ${sqlQuery} directly
+		values.put("sqlQuery", sql);
 		values.put("where_clause", whereClause); // Pass where clause separately if needed by template
 		
 		// Generate parameter setting block for index columns, using "indexData" as variable name.
 		values.put("parameter_setting_block", generateParameterSettingBlock(indexColumns, "indexData", "\t\t\t"));
 
+		// Definite misses of the exists filter are answered without a query.
+		values.put("existsFilterCheck", !filtered ? "" : String.format(
+			"\n\t\tif (!%s.mightContain(%s, this::getConnection)) {\n\t\t\treturn false;\n\t\t}",
+			toConstantName("EXISTS_FILTER", methodNameSuffix), generateExistsFilterHash(indexColumns, "indexData")));
+		values.put("methodWrapper", generateMethodWrapper(tableName, "boolean", "exists" + methodNameSuffix, indexPojoName + " indexData",
+			generateQueryLogValues(sql, indexName, indexColumns, "indexData", null)));
+
 		// Replace and return.
 		return replacePlaceholders(template, values);
 	}
@@ -1288,23 +3484,31 @@ public class DaoGenerator {
 	 */
 	private String generateMapRowMethodFromTemplate(String dataPojoName, List<ColumnInfo> allColumns, String mapRowMethodName) throws IOException {
 		// Load template.
-		String template = loadTemplate("dao_method_map_row.template");
+		Template template = loadTemplate("dao_method_map_row.template");
 		
 		// Prepare values.
 		Map<String, String> values = new HashMap<>();
 
-		// Build the block of mapping code (data.setField(rs.getObject(...))).
+		// Build the block of mapping code (data.setField(rs.getXxx(position))).
+		// Columns are read by position, in the order of allColumns, which is also the
+		// order of the columns returned by the generated SELECT statements.
 		StringBuilder mappingBlock = new StringBuilder();
+		int position = 1;
 		for (ColumnInfo col : allColumns) {
-			// Use rs.getObject(columnName, TargetType.class) for robust handling of SQL NULLs when mapping to Java wrapper types (Integer, Long, Boolean, etc.).
-			mappingBlock.append(String.format(
-				"\t\tdata.set%s(rs.getObject(\"%s\", %s.class));\n",
-				Name.toClassName(col.javaName), // setUserId
-				col.dbName, // "user_id"
-				col.javaType, // Integer
-				JDBCType.valueOf(col.sqlType).getName(), // VARCHAR / INT / etc.
-				col.sqlType // java.sql.Types.INTEGER
-			));
+			String setterName = "set" + Name.toClassName(col.javaName); // setUserId
+			String getterName = Type.toResultSetGetter(col.javaType); // getInt / getString / etc.
+			String primitiveType = Type.toPrimitiveType(col.javaType); // int for Integer, null for String
+
+			if (primitiveType == null) {
+				// Reference getters already return null for SQL NULL, and primitive
+				// fields (NOT NULL columns) take the primitive value as is.
+				mappingBlock.append(String.format("\t\tdata.%s(rs.%s(%d));\n", setterName, getterName, position));
+			} else {
+				// Primitive getters return 0/false for SQL NULL: check wasNull() to keep NULLs.
+				mappingBlock.append(String.format("\t\t%s c%d = rs.%s(%d);\n", primitiveType, position, getterName, position));
+				mappingBlock.append(String.format("\t\tdata.%s(rs.wasNull() ? null : c%d);\n", setterName, position));
+			}
+			position++;
 		}
 
 		values.put("dataPojoName", dataPojoName);
@@ -1317,6 +3521,28 @@ public class DaoGenerator {
 
 	// --- General Utility Helpers ---
 
+	/**
+	 * Generates the Javadoc note describing a projected lookup method.
+	 *
+	 * @param columns The projected columns.
+	 * @return A string like ", projected onto the columns: col1, col2".
+	 */
+	private String generateProjectionNote(List<ColumnInfo> columns) {
+		return columns.stream().map(c -> c.dbName).collect(Collectors.joining(", ", ", projected onto the columns: ", ""));
+	}
+
+	/**
+	 * Generates the explicit column list of a SELECT statement. The order of the
+	 * columns is the order in which the generated mapping methods read them by
+	 * position, so both must be built from the same list.
+	 *
+	 * @param columns The columns to select.
+	 * @return A string like "`col1`, `col2`, ...".
+	 */
+	private String generateSelectColumnsClause(List<ColumnInfo> columns) {
+		return columns.stream().map(c -> "`" + c.dbName + "`").collect(Collectors.joining(", "));
+	}
+
 	/**
 	 * Generates necessary import statements for a DAO class, currently only for
 	 * {@code java.math.BigDecimal}.
@@ -1353,7 +3579,7 @@ public class DaoGenerator {
 	 * @return A string containing multiple lines of
 	 *         {@code pstmt.setObject(index, pojo.get...());}.
 	 */
-	private String generateParameterSettingBlock(List<ColumnInfo> columns, String pojoVariableName, String indentation) {
+	String generateParameterSettingBlock(List<ColumnInfo> columns, String pojoVariableName, String indentation) {
 		// Delegate to the more general version starting index at 1.
 		return generateParameterSettingBlock(columns, pojoVariableName, indentation, 1);
 	}
@@ -1379,8 +3605,9 @@ public class DaoGenerator {
 		int paramIndex = startIndex; // Start parameter index as specified.
 		for (ColumnInfo col : columns) {
 			// Construct the line: indentation + pstmt.setObject(index, pojoVar.getGetterName());
+			// Primitive fields use their type-specific setter (setInt, ...) to avoid boxing.
 			sb.append(String.format(
-				"%spstmt.setObject(%d, %s.get%s());\n", indentation, paramIndex++, // Increment index for next parameter
+				"%spstmt.%s(%d, %s.get%s());\n", indentation, Type.toPreparedStatementSetter(col.javaType), paramIndex++, // Increment index for next parameter
 				pojoVariableName, Name.toClassName(col.javaName), // Generate getter name (e.g., UserId)
 				col.javaType // Add Java type as comment
 			));
@@ -1393,38 +3620,108 @@ public class DaoGenerator {
 	}
 
 	/**
-	 * Writes the given string content to the specified file path using UTF-8
-	 * encoding. Creates parent directories if they do not exist.
+	 * Generates a block of Java code to set parameters on a
+	 * {@link PreparedStatement} using a running index variable instead of literal
+	 * indexes. Used when the same columns are bound repeatedly in one statement
+	 * (e.g., one group of parameters per key of an {@code IN} list).
+	 *
+	 * @param columns          A List of {@link ColumnInfo} objects defining the
+	 *                         parameters to set (in order).
+	 * @param pojoVariableName The name of the Java variable holding the POJO
+	 *                         instance containing the values.
+	 * @param indentation      A string used for indenting each generated line.
+	 * @param indexVariable    The name of the int variable holding the next JDBC
+	 *                         parameter index; it is post-incremented by each line.
+	 * @return A string containing multiple lines of
+	 *         {@code pstmt.setObject(idx++, pojo.get...());}.
+	 */
+	private String generateIndexedParameterSettingBlock(List<ColumnInfo> columns, String pojoVariableName, String indentation, String indexVariable) {
+		return columns.stream()
+			.map(c -> String.format("%spstmt.%s(%s++, %s.get%s());", indentation, Type.toPreparedStatementSetter(c.javaType), indexVariable, pojoVariableName, Name.toClassName(c.javaName)))
+			.collect(Collectors.joining("\n"));
+	}
+
+	/**
+	 * Appends source blocks to an output, in order.
+	 *
+	 * @param out    The output to append to.
+	 * @param blocks The blocks to append.
+	 * @throws IOException if the output fails.
+	 */
+	private static void appendAll(Appendable out, List<String> blocks) throws IOException {
+		for (String block : blocks) {
+			out.append(block);
+		}
+	}
+
+	/**
+	 * Streams generated content to the specified file path using UTF-8 encoding,
+	 * through a buffered writer. Creates parent directories if they do not exist.
+	 * <p>
+	 * The content is written to a temporary file next to the target, which then
+	 * replaces it. A file whose content is already byte-identical is not replaced,
+	 * so that its modification time does not trigger a recompilation.
+	 * </p>
 	 *
 	 * @param filePath The full {@link Path} to the output file.
-	 * @param content  The string content to write to the file.
+	 * @param content  The fragment writing the content of the file.
 	 * @throws IOException if an error occurs during directory creation or file
 	 *                     writing.
 	 */
-	private void writeFile(Path filePath, String content) throws IOException {
+	private void writeFile(Path filePath, Template.Fragment content) throws IOException {
+		// Tables are processed by one task each, so the temporary name cannot clash.
+		Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
 		try {
 			// Ensure the parent directory exists. Create it if necessary.
 			Path parentDir = filePath.getParent();
 			if (parentDir != null) { // Check for null in case filePath is a root element
 				Files.createDirectories(parentDir);
 			}
-			
-			// Write the content to the file using UTF-8 encoding. Overwrites if file
-			// exists.
-			Files.writeString(filePath, content, StandardCharsets.UTF_8);
+
+			// Stream the content to the temporary file using UTF-8 encoding.
+			try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+				content.writeTo(writer);
+			}
+
+			// Leave the file untouched if its content is already the same.
+			if (Files.isRegularFile(filePath) && Files.mismatch(filePath, tempFile) == -1L) {
+				unchangedFileCount.incrementAndGet();
+				return;
+			}
+
+			// Replace the file (atomically where the file system supports it).
+			try {
+				Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING);
+			}
+			writtenFileCount.incrementAndGet();
 		} catch (IOException e) {
 			System.err.println("Error writing generated file: " + filePath);
 			// Re-throw the exception to be handled by the caller.
 			throw e;
+		} finally {
+			Files.deleteIfExists(tempFile);
 		}
 	}
 
 	/**
 	 * Closes the database {@link Connection} if it is currently open. Logs any
 	 * {@link SQLException} that occurs during closing but does not propagate it.
-	 * Sets the connection member variable to null afterwards.
+	 * Sets the connection member variable to null afterwards. The additional
+	 * metadata connections, if any, are closed as well.
 	 */
 	private void closeConnection() {
+		// Close the additional metadata connections first.
+		for (Connection extra : extraConnections) {
+			try {
+				extra.close();
+			} catch (SQLException e) {
+				System.err.println("Error closing a metadata connection: " + e.getMessage());
+			}
+		}
+		extraConnections.clear();
+
 		// Check if the connection exists and is potentially open.
 		if (connection != null) {
 			try {
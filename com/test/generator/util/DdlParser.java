@@ -0,0 +1,804 @@
+package com.test.generator.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads table definitions from a MySQL DDL dump (e.g., a mysqldump or phpMyAdmin export)
+ * without a database connection.
+ * <p>
+ * The dump is read as a stream of statements: only {@code CREATE TABLE}, {@code CREATE INDEX},
+ * {@code ALTER TABLE} and {@code DROP TABLE} statements are buffered and parsed; all other
+ * statements (notably the {@code INSERT} statements holding the data) are skipped character
+ * by character, so memory use does not depend on the size of the dump.
+ * </p>
+ * <p>
+ * Supported clauses: column definitions (type, {@code NULL}/{@code NOT NULL}, inline
+ * {@code PRIMARY KEY}/{@code UNIQUE}), {@code PRIMARY KEY}, {@code UNIQUE [KEY|INDEX]},
+ * {@code KEY}/{@code INDEX}, {@code FULLTEXT}/{@code SPATIAL} keys and {@code CONSTRAINT}
+ * names in table definitions, and {@code ADD}, {@code MODIFY}, {@code CHANGE} and
+ * {@code DROP} specifications in {@code ALTER TABLE}. Foreign keys and checks are ignored.
+ * Unsupported statements or clauses are reported on standard error and skipped.
+ * </p>
+ * This class is intended to be used statically.
+ * Make class final as it's not designed for extension.
+ */
+public final class DdlParser {
+    /**
+     * Private constructor to prevent instantiation of this utility class.
+     */
+    private DdlParser() {
+        throw new IllegalStateException("Utility class DdlParser should not be instantiated.");
+    }
+
+    /**
+     * Parses a DDL dump file (UTF-8).
+     *
+     * @param file The path of the dump.
+     * @return The tables defined by the dump, by name, in definition order.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Map<String, TableDefinition> parse(Path file) throws IOException {
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return parse(reader);
+        }
+    }
+
+    /**
+     * Parses a DDL dump read from a character stream. The reader is not closed.
+     *
+     * @param reader The dump content.
+     * @return The tables defined by the dump, by name, in definition order.
+     * @throws IOException if reading fails.
+     */
+    public static Map<String, TableDefinition> parse(Reader reader) throws IOException {
+        Map<String, TableDefinition> tables = new LinkedHashMap<>();
+        StatementReader statements = new StatementReader(reader instanceof BufferedReader ? reader : new BufferedReader(reader));
+        String statement;
+        while ((statement = statements.next()) != null) {
+            try {
+                parseStatement(new Tokens(tokenize(statement)), tables);
+            } catch (IllegalArgumentException e) {
+                System.err.println("WARN: Skipping unsupported DDL statement (" + e.getMessage() + "): " + abbreviate(statement));
+            }
+        }
+        return tables;
+    }
+
+    // --- Model ---
+
+    /**
+     * A table definition: its columns and indexes, in definition order.
+     */
+    public static final class TableDefinition {
+        /**
+         * The table name.
+         */
+        public final String name;
+
+        /**
+         * The columns of the table.
+         */
+        public final List<ColumnDefinition> columns = new ArrayList<>();
+
+        /**
+         * The indexes of the table, the primary key being named "PRIMARY".
+         */
+        public final List<IndexDefinition> indexes = new ArrayList<>();
+
+        TableDefinition(String name) {
+            this.name = name;
+        }
+
+        private int columnIndex(String columnName) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).name.equalsIgnoreCase(columnName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private IndexDefinition index(String indexName) {
+            return indexes.stream().filter(i -> i.name.equalsIgnoreCase(indexName)).findFirst().orElse(null);
+        }
+
+        private void addIndex(String indexName, boolean unique, List<String> columnNames) {
+            if (columnNames.isEmpty()) {
+                return;
+            }
+            // Like MySQL, name unnamed indexes after their first column (with a "_2", ... suffix if taken).
+            String resolvedName = indexName;
+            if (resolvedName == null) {
+                resolvedName = columnNames.get(0);
+                for (int n = 2; index(resolvedName) != null; n++) {
+                    resolvedName = columnNames.get(0) + "_" + n;
+                }
+            }
+            indexes.add(new IndexDefinition(resolvedName, unique, columnNames));
+
+            // Primary key columns are implicitly NOT NULL.
+            if ("PRIMARY".equals(resolvedName)) {
+                for (String columnName : columnNames) {
+                    int i = columnIndex(columnName);
+                    if (i >= 0) {
+                        columns.set(i, columns.get(i).withNullable(false));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + columns + " " + indexes;
+        }
+    }
+
+    /**
+     * A column definition, described with the same values as {@code information_schema.COLUMNS}.
+     * Instances are immutable.
+     */
+    public static final class ColumnDefinition {
+        /**
+         * The column name.
+         */
+        public final String name;
+
+        /**
+         * The data type, lower case and without length (e.g., "varchar"), as in DATA_TYPE.
+         */
+        public final String dataType;
+
+        /**
+         * The full type, lower case (e.g., "varchar(45)", "int unsigned"), as in COLUMN_TYPE.
+         */
+        public final String columnType;
+
+        /**
+         * Whether the column accepts NULL values.
+         */
+        public final boolean nullable;
+
+        ColumnDefinition(String name, String dataType, String columnType, boolean nullable) {
+            this.name = name;
+            this.dataType = dataType;
+            this.columnType = columnType;
+            this.nullable = nullable;
+        }
+
+        private ColumnDefinition withNullable(boolean newNullable) {
+            return new ColumnDefinition(name, dataType, columnType, newNullable);
+        }
+
+        @Override
+        public String toString() {
+            return name + " " + columnType + (nullable ? "" : " NOT NULL");
+        }
+    }
+
+    /**
+     * An index definition. Instances are immutable.
+     */
+    public static final class IndexDefinition {
+        /**
+         * The index name ("PRIMARY" for the primary key).
+         */
+        public final String name;
+
+        /**
+         * Whether the index is unique.
+         */
+        public final boolean unique;
+
+        /**
+         * The indexed column names, in index order.
+         */
+        public final List<String> columnNames;
+
+        IndexDefinition(String name, boolean unique, List<String> columnNames) {
+            this.name = name;
+            this.unique = unique;
+            this.columnNames = List.copyOf(columnNames);
+        }
+
+        private IndexDefinition withRenamedColumn(String oldName, String newName) {
+            List<String> renamed = new ArrayList<>(columnNames);
+            renamed.replaceAll(c -> c.equals(oldName) ? newName : c);
+            return new IndexDefinition(name, unique, renamed);
+        }
+
+        @Override
+        public String toString() {
+            return (unique ? "UNIQUE " : "") + name + columnNames;
+        }
+    }
+
+    // --- Statement parsing ---
+
+    private static void parseStatement(Tokens t, Map<String, TableDefinition> tables) {
+        if (t.acceptKeyword("CREATE")) {
+            t.acceptKeyword("TEMPORARY");
+            if (t.acceptKeyword("TABLE")) {
+                parseCreateTable(t, tables);
+                return;
+            }
+            boolean unique = t.acceptKeyword("UNIQUE");
+            if (!unique && !t.acceptKeyword("FULLTEXT")) {
+                t.acceptKeyword("SPATIAL");
+            }
+            if (t.acceptKeyword("INDEX")) {
+                // CREATE [UNIQUE] INDEX name ON table (columns)
+                String indexName = t.identifier();
+                t.skipUntilKeyword("ON");
+                TableDefinition table = tables.get(t.qualifiedIdentifier());
+                if (table != null) {
+                    table.addIndex(indexName, unique, t.indexColumns());
+                }
+            }
+            // Other CREATE statements (views, triggers, ...) are not relevant.
+        } else if (t.acceptKeyword("ALTER")) {
+            t.acceptKeyword("IGNORE");
+            if (t.acceptKeyword("TABLE")) {
+                TableDefinition table = tables.get(t.qualifiedIdentifier());
+                if (table != null) {
+                    for (Tokens spec : t.splitTopLevel()) {
+                        parseAlterSpecification(spec, table);
+                    }
+                }
+            }
+        } else if (t.acceptKeyword("DROP")) {
+            t.acceptKeyword("TEMPORARY");
+            if (t.acceptKeyword("TABLE")) {
+                if (t.acceptKeyword("IF")) {
+                    t.expectKeyword("EXISTS");
+                }
+                do {
+                    tables.remove(t.qualifiedIdentifier());
+                } while (t.accept(","));
+            }
+        }
+    }
+
+    private static void parseCreateTable(Tokens t, Map<String, TableDefinition> tables) {
+        if (t.acceptKeyword("IF")) {
+            t.expectKeyword("NOT");
+            t.expectKeyword("EXISTS");
+        }
+        TableDefinition table = new TableDefinition(t.qualifiedIdentifier());
+        if (!t.peek("(")) {
+            // CREATE TABLE ... LIKE / AS SELECT: the structure is not in the dump.
+            throw new IllegalArgumentException("table '" + table.name + "' has no column definitions");
+        }
+        for (Tokens definition : t.parenthesized().splitTopLevel()) {
+            parseCreateDefinition(definition, table);
+        }
+        tables.put(table.name, table);
+    }
+
+    private static void parseAlterSpecification(Tokens t, TableDefinition table) {
+        if (t.acceptKeyword("ADD")) {
+            t.acceptKeyword("COLUMN");
+            if (t.peek("(")) {
+                // ADD [COLUMN] (column_definition, ...)
+                for (Tokens definition : t.parenthesized().splitTopLevel()) {
+                    parseCreateDefinition(definition, table);
+                }
+            } else {
+                parseCreateDefinition(t, table);
+            }
+        } else if (t.acceptKeyword("MODIFY")) {
+            t.acceptKeyword("COLUMN");
+            ParsedColumn parsed = parseColumnDefinition(t);
+            replaceColumn(table, parsed.column.name, parsed);
+        } else if (t.acceptKeyword("CHANGE")) {
+            t.acceptKeyword("COLUMN");
+            String oldName = t.identifier();
+            ParsedColumn parsed = parseColumnDefinition(t);
+            replaceColumn(table, oldName, parsed);
+        } else if (t.acceptKeyword("DROP")) {
+            if (t.acceptKeyword("PRIMARY")) {
+                t.expectKeyword("KEY");
+                table.indexes.removeIf(i -> "PRIMARY".equals(i.name));
+            } else if (t.acceptKeyword("INDEX") || t.acceptKeyword("KEY")) {
+                String indexName = t.identifier();
+                table.indexes.removeIf(i -> i.name.equalsIgnoreCase(indexName));
+            } else if (!t.acceptKeyword("FOREIGN") && !t.acceptKeyword("CHECK") && !t.acceptKeyword("CONSTRAINT")) {
+                t.acceptKeyword("COLUMN");
+                String columnName = t.identifier();
+                table.columns.removeIf(c -> c.name.equalsIgnoreCase(columnName));
+            }
+        }
+        // Other specifications (RENAME, ALTER COLUMN defaults, table options, ...) do not change the model.
+    }
+
+    private static void replaceColumn(TableDefinition table, String oldName, ParsedColumn parsed) {
+        int i = table.columnIndex(oldName);
+        if (i < 0) {
+            throw new IllegalArgumentException("unknown column '" + oldName + "' in table '" + table.name + "'");
+        }
+        // A redefined primary key column stays NOT NULL.
+        String previousName = table.columns.get(i).name;
+        boolean inPk = table.indexes.stream().anyMatch(x -> "PRIMARY".equals(x.name) && x.columnNames.contains(previousName));
+        table.columns.set(i, inPk ? parsed.column.withNullable(false) : parsed.column);
+
+        // A renamed column (CHANGE) is renamed in the indexes too.
+        if (!previousName.equals(parsed.column.name)) {
+            table.indexes.replaceAll(x -> x.columnNames.contains(previousName) ? x.withRenamedColumn(previousName, parsed.column.name) : x);
+        }
+        addInlineKeys(table, parsed);
+    }
+
+    private static void parseCreateDefinition(Tokens t, TableDefinition table) {
+        String constraintName = null;
+        if (t.acceptKeyword("CONSTRAINT")) {
+            // CONSTRAINT [symbol] PRIMARY KEY | UNIQUE | FOREIGN KEY | CHECK
+            if (!t.peekKeyword("PRIMARY") && !t.peekKeyword("UNIQUE") && !t.peekKeyword("FOREIGN") && !t.peekKeyword("CHECK")) {
+                constraintName = t.identifier();
+            }
+        }
+        if (t.acceptKeyword("PRIMARY")) {
+            t.expectKeyword("KEY");
+            table.addIndex("PRIMARY", true, t.indexColumns());
+        } else if (t.acceptKeyword("UNIQUE")) {
+            if (!t.acceptKeyword("KEY")) {
+                t.acceptKeyword("INDEX");
+            }
+            String indexName = t.peek("(") ? constraintName : t.identifier();
+            table.addIndex(indexName, true, t.indexColumns());
+        } else if (t.acceptKeyword("FULLTEXT") || t.acceptKeyword("SPATIAL")) {
+            if (!t.acceptKeyword("KEY")) {
+                t.acceptKeyword("INDEX");
+            }
+            table.addIndex(t.peek("(") ? null : t.identifier(), false, t.indexColumns());
+        } else if (t.acceptKeyword("KEY") || t.acceptKeyword("INDEX")) {
+            table.addIndex(t.peek("(") ? null : t.identifier(), false, t.indexColumns());
+        } else if (t.acceptKeyword("FOREIGN") || t.acceptKeyword("CHECK")) {
+            // Not part of the generator model.
+        } else {
+            ParsedColumn parsed = parseColumnDefinition(t);
+            if (table.columnIndex(parsed.column.name) >= 0) {
+                throw new IllegalArgumentException("duplicate column '" + parsed.column.name + "' in table '" + table.name + "'");
+            }
+            table.columns.add(parsed.column);
+            addInlineKeys(table, parsed);
+        }
+    }
+
+    /**
+     * A column definition with the keys declared inline ("id INT PRIMARY KEY", "code CHAR(4) UNIQUE").
+     */
+    private static final class ParsedColumn {
+        final ColumnDefinition column;
+        final boolean primaryKey;
+        final boolean unique;
+
+        ParsedColumn(ColumnDefinition column, boolean primaryKey, boolean unique) {
+            this.column = column;
+            this.primaryKey = primaryKey;
+            this.unique = unique;
+        }
+    }
+
+    private static void addInlineKeys(TableDefinition table, ParsedColumn parsed) {
+        if (parsed.primaryKey) {
+            table.addIndex("PRIMARY", true, Collections.singletonList(parsed.column.name));
+        } else if (parsed.unique) {
+            table.addIndex(null, true, Collections.singletonList(parsed.column.name));
+        }
+    }
+
+    private static ParsedColumn parseColumnDefinition(Tokens t) {
+        String name = t.identifier();
+        String dataType = t.word().toLowerCase(Locale.ROOT);
+        StringBuilder columnType = new StringBuilder(dataType);
+        if (t.peek("(")) {
+            columnType.append('(').append(String.join(",", t.parenthesized().texts())).append(')');
+        }
+
+        boolean nullable = true;
+        boolean primaryKey = false;
+        boolean unique = false;
+        while (t.hasNext()) {
+            if (t.acceptKeyword("UNSIGNED") || t.acceptKeyword("ZEROFILL")) {
+                columnType.append(' ').append(t.previous().text.toLowerCase(Locale.ROOT));
+            } else if (t.acceptKeyword("NOT")) {
+                t.expectKeyword("NULL");
+                nullable = false;
+            } else if (t.acceptKeyword("PRIMARY")) {
+                t.expectKeyword("KEY");
+                primaryKey = true;
+            } else if (t.acceptKeyword("UNIQUE")) {
+                t.acceptKeyword("KEY");
+                unique = true;
+            } else if (t.acceptKeyword("KEY")) {
+                // A lone KEY attribute means PRIMARY KEY.
+                primaryKey = true;
+            } else if (t.acceptKeyword("REFERENCES")) {
+                // Inline foreign keys are ignored by MySQL: skip the rest of the definition.
+                break;
+            } else {
+                // NULL, DEFAULT ..., COMMENT '...', AUTO_INCREMENT, CHARACTER SET, COLLATE, ...
+                t.skip();
+            }
+        }
+
+        return new ParsedColumn(new ColumnDefinition(name, dataType, columnType.toString(), nullable), primaryKey, unique);
+    }
+
+    // --- Statement splitting ---
+
+    /**
+     * Splits a dump into statements, ignoring comments. Only statements starting with
+     * CREATE, ALTER or DROP are buffered; the others are consumed without being stored.
+     */
+    private static final class StatementReader {
+        private final Reader reader;
+        private int pending = -2;
+
+        StatementReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        private int peek() throws IOException {
+            if (pending == -2) {
+                pending = reader.read();
+            }
+            return pending;
+        }
+
+        /**
+         * Returns the next relevant statement, without its terminating ';', or null at the end.
+         */
+        String next() throws IOException {
+            StringBuilder sb = new StringBuilder();
+            StringBuilder firstWord = new StringBuilder();
+            boolean decided = false;
+            boolean keep = false;
+            int c;
+            while ((c = read()) != -1) {
+                // Comments: "-- ", "#" and "/* */" (including "/*!...*/" version comments).
+                if (c == '-' && peek() == '-') {
+                    read();
+                    int next = peek();
+                    if (next == -1 || Character.isWhitespace(next)) {
+                        skipLine();
+                        c = ' ';
+                    } else {
+                        if (keep || !decided) {
+                            sb.append("--");
+                        }
+                        continue;
+                    }
+                } else if (c == '#') {
+                    skipLine();
+                    c = ' ';
+                } else if (c == '/' && peek() == '*') {
+                    read();
+                    skipBlockComment();
+                    c = ' ';
+                }
+
+                if (c == ';') {
+                    if (keep) {
+                        return sb.toString();
+                    }
+                    sb.setLength(0);
+                    firstWord.setLength(0);
+                    decided = false;
+                    continue;
+                }
+
+                // Decide whether to keep the statement once its first word is known.
+                if (!decided) {
+                    if (Character.isLetter(c)) {
+                        firstWord.append((char) c);
+                    } else if (firstWord.length() > 0 || !Character.isWhitespace(c)) {
+                        String word = firstWord.toString().toUpperCase(Locale.ROOT);
+                        keep = word.equals("CREATE") || word.equals("ALTER") || word.equals("DROP");
+                        decided = true;
+                    }
+                }
+                if (keep || !decided) {
+                    sb.append((char) c);
+                }
+
+                // Quoted strings and identifiers may contain ';' and comment markers.
+                if (c == '\'' || c == '"' || c == '`') {
+                    skipQuoted(c, (keep || !decided) ? sb : null);
+                }
+            }
+            return keep ? sb.toString() : null;
+        }
+
+        private void skipLine() throws IOException {
+            int c;
+            while ((c = read()) != -1 && c != '\n') {
+                // Skip.
+            }
+        }
+
+        private void skipBlockComment() throws IOException {
+            int c;
+            while ((c = read()) != -1) {
+                if (c == '*' && peek() == '/') {
+                    read();
+                    return;
+                }
+            }
+        }
+
+        private void skipQuoted(int quote, StringBuilder sb) throws IOException {
+            int c;
+            while ((c = read()) != -1) {
+                if (sb != null) {
+                    sb.append((char) c);
+                }
+                if (c == '\\' && quote != '`') {
+                    // Escaped character in a string literal.
+                    int escaped = read();
+                    if (escaped != -1 && sb != null) {
+                        sb.append((char) escaped);
+                    }
+                } else if (c == quote) {
+                    // A doubled quote is read as the end of a quoted part followed by a new one.
+                    return;
+                }
+            }
+        }
+    }
+
+    // --- Tokenizer ---
+
+    private enum Kind { WORD, QUOTED_IDENTIFIER, STRING, SYMBOL }
+
+    private static final class Token {
+        final Kind kind;
+        final String text;
+
+        Token(Kind kind, String text) {
+            this.kind = kind;
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    private static List<Token> tokenize(String sql) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        int n = sql.length();
+        while (i < n) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '`' || c == '\'' || c == '"') {
+                StringBuilder sb = new StringBuilder();
+                i++;
+                while (i < n) {
+                    char d = sql.charAt(i);
+                    if (d == '\\' && c != '`' && i + 1 < n) {
+                        sb.append(sql.charAt(i + 1));
+                        i += 2;
+                    } else if (d == c && i + 1 < n && sql.charAt(i + 1) == c) {
+                        sb.append(c);
+                        i += 2;
+                    } else if (d == c) {
+                        i++;
+                        break;
+                    } else {
+                        sb.append(d);
+                        i++;
+                    }
+                }
+                tokens.add(new Token(c == '`' ? Kind.QUOTED_IDENTIFIER : Kind.STRING, sb.toString()));
+            } else if (Character.isLetterOrDigit(c) || c == '_' || c == '$') {
+                int start = i;
+                while (i < n && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_' || sql.charAt(i) == '$')) {
+                    i++;
+                }
+                tokens.add(new Token(Kind.WORD, sql.substring(start, i)));
+            } else {
+                tokens.add(new Token(Kind.SYMBOL, String.valueOf(c)));
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * A cursor over a list of tokens.
+     */
+    private static final class Tokens {
+        private final List<Token> tokens;
+        private int pos;
+
+        Tokens(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return pos < tokens.size();
+        }
+
+        Token previous() {
+            return tokens.get(pos - 1);
+        }
+
+        boolean peek(String symbol) {
+            return hasNext() && tokens.get(pos).kind == Kind.SYMBOL && tokens.get(pos).text.equals(symbol);
+        }
+
+        boolean peekKeyword(String keyword) {
+            return hasNext() && tokens.get(pos).kind == Kind.WORD && tokens.get(pos).text.equalsIgnoreCase(keyword);
+        }
+
+        boolean accept(String symbol) {
+            if (peek(symbol)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean acceptKeyword(String keyword) {
+            if (peekKeyword(keyword)) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void expectKeyword(String keyword) {
+            if (!acceptKeyword(keyword)) {
+                throw new IllegalArgumentException("expected " + keyword + " at " + describePosition());
+            }
+        }
+
+        void skip() {
+            // Skip one token, or a whole parenthesized group.
+            if (peek("(")) {
+                parenthesized();
+            } else {
+                pos++;
+            }
+        }
+
+        void skipUntilKeyword(String keyword) {
+            while (hasNext() && !acceptKeyword(keyword)) {
+                pos++;
+            }
+        }
+
+        String word() {
+            if (!hasNext() || tokens.get(pos).kind != Kind.WORD) {
+                throw new IllegalArgumentException("expected a word at " + describePosition());
+            }
+            return tokens.get(pos++).text;
+        }
+
+        String identifier() {
+            if (!hasNext() || (tokens.get(pos).kind != Kind.WORD && tokens.get(pos).kind != Kind.QUOTED_IDENTIFIER)) {
+                throw new IllegalArgumentException("expected an identifier at " + describePosition());
+            }
+            return tokens.get(pos++).text;
+        }
+
+        /**
+         * Reads "name" or "schema.name" and returns the name.
+         */
+        String qualifiedIdentifier() {
+            String name = identifier();
+            while (accept(".")) {
+                name = identifier();
+            }
+            return name;
+        }
+
+        /**
+         * Reads a parenthesized group and returns its content.
+         */
+        Tokens parenthesized() {
+            if (!accept("(")) {
+                throw new IllegalArgumentException("expected ( at " + describePosition());
+            }
+            int start = pos;
+            int depth = 1;
+            while (hasNext()) {
+                Token token = tokens.get(pos++);
+                if (token.kind == Kind.SYMBOL && token.text.equals("(")) {
+                    depth++;
+                } else if (token.kind == Kind.SYMBOL && token.text.equals(")") && --depth == 0) {
+                    return new Tokens(tokens.subList(start, pos - 1));
+                }
+            }
+            throw new IllegalArgumentException("unbalanced parentheses");
+        }
+
+        /**
+         * Splits the remaining tokens at the commas that are not inside parentheses.
+         */
+        List<Tokens> splitTopLevel() {
+            List<Tokens> parts = new ArrayList<>();
+            int start = pos;
+            int depth = 0;
+            for (; pos < tokens.size(); pos++) {
+                Token token = tokens.get(pos);
+                if (token.kind != Kind.SYMBOL) {
+                    continue;
+                }
+                if (token.text.equals("(")) {
+                    depth++;
+                } else if (token.text.equals(")")) {
+                    depth--;
+                } else if (token.text.equals(",") && depth == 0) {
+                    parts.add(new Tokens(tokens.subList(start, pos)));
+                    start = pos + 1;
+                }
+            }
+            if (start < tokens.size()) {
+                parts.add(new Tokens(tokens.subList(start, tokens.size())));
+            }
+            return parts;
+        }
+
+        /**
+         * Reads the column list of an index: "[USING type] (col[(length)] [ASC|DESC], ...)".
+         * Functional key parts, which have no column, are left out.
+         */
+        List<String> indexColumns() {
+            if (acceptKeyword("USING")) {
+                word();
+            }
+            List<String> columnNames = new ArrayList<>();
+            for (Tokens part : parenthesized().splitTopLevel()) {
+                if (!part.peek("(")) {
+                    columnNames.add(part.identifier());
+                }
+            }
+            return columnNames;
+        }
+
+        List<String> texts() {
+            List<String> texts = new ArrayList<>();
+            for (Tokens part : splitTopLevel()) {
+                StringBuilder sb = new StringBuilder();
+                for (Token token : part.tokens) {
+                    sb.append(token.kind == Kind.STRING ? "'" + token.text + "'" : token.text);
+                }
+                texts.add(sb.toString());
+            }
+            return texts;
+        }
+
+        private String describePosition() {
+            return hasNext() ? "'" + tokens.get(pos).text + "'" : "end of statement";
+        }
+    }
+
+    private static String abbreviate(String statement) {
+        String oneLine = statement.trim().replaceAll("\\s+", " ");
+        return oneLine.length() <= 80 ? oneLine : oneLine.substring(0, 77) + "...";
+    }
+}
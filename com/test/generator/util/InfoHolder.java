@@ -1,13 +1,14 @@
 package com.test.generator.util;
 
 import java.util.LinkedHashSet; // Used to store index columns while preserving order.
+import java.util.List;          // Ordered, immutable column list of a projection.
 import java.util.Objects;       // Used for Objects.requireNonNull and Objects.hash if needed (currently only for equals).
 import java.util.Set;           // Interface type for columnDbNames.
 
 /**
  * A container class holding nested static classes that represent database schema information.
- * This class itself is not instantiated; it serves only as a namespace for {@link ColumnInfo}
- * and {@link IndexInfo}.
+ * This class itself is not instantiated; it serves only as a namespace for {@link ColumnInfo},
+ * {@link IndexInfo} and {@link ProjectionInfo}.
  * Make class final as it's not designed for extension.
  */
 public final class InfoHolder {
@@ -48,6 +49,11 @@ public final class InfoHolder {
          */
         public final boolean isPrimaryKey;
 
+        /**
+         * Flag indicating if this column accepts SQL NULL values (true when unknown).
+         */
+        public final boolean isNullable;
+
         /**
          * Constructs a new ColumnInfo instance.
          * Consider adding null checks here if this class were used more broadly outside the generator.
@@ -59,6 +65,21 @@ public final class InfoHolder {
          * @param isPrimaryKey True if this column is part of the primary key, false otherwise.
          */
         public ColumnInfo(String dbName, String javaName, String javaType, int sqlType, boolean isPrimaryKey) {
+            // Nullability unknown: assume the column accepts NULL values.
+            this(dbName, javaName, javaType, sqlType, isPrimaryKey, true);
+        }
+
+        /**
+         * Constructs a new ColumnInfo instance with known nullability.
+         *
+         * @param dbName       The database name of the column (non-null).
+         * @param javaName     The generated Java field name (non-null).
+         * @param javaType     The mapped Java type name (non-null), possibly a primitive for NOT NULL columns.
+         * @param sqlType      The JDBC type code (from {@code java.sql.Types}).
+         * @param isPrimaryKey True if this column is part of the primary key, false otherwise.
+         * @param isNullable   True if this column accepts SQL NULL values (or if unknown), false otherwise.
+         */
+        public ColumnInfo(String dbName, String javaName, String javaType, int sqlType, boolean isPrimaryKey, boolean isNullable) {
             // Preconditions (optional but recommended for robustness if used outside controlled generator)
             // Objects.requireNonNull(dbName, "dbName cannot be null");
             // Objects.requireNonNull(javaName, "javaName cannot be null");
@@ -68,17 +89,18 @@ public final class InfoHolder {
             this.javaType = javaType;
             this.sqlType = sqlType;
             this.isPrimaryKey = isPrimaryKey;
+            this.isNullable = isNullable;
         }
 
         /**
          * Returns a string representation of the column information, useful for debugging.
-         * Format: "dbName (javaType[, PK])"
+         * Format: "dbName (javaType[, PK][, NOT NULL])"
          *
          * @return A descriptive string for this column.
          */
         @Override
         public String toString() {
-            return dbName + " (" + javaType + (isPrimaryKey ? ", PK" : "") + ")";
+            return dbName + " (" + javaType + (isPrimaryKey ? ", PK" : "") + (isNullable ? "" : ", NOT NULL") + ")";
         }
 
         // No hashCode/equals needed currently, as instances are typically held in lists
@@ -228,4 +250,43 @@ public final class InfoHolder {
             return Objects.equals(indexName, other.indexName); // Use Objects.equals for null safety
         }
     }
+
+    /**
+     * Holds a projection declared in the generator configuration: a named subset of the
+     * columns of a table, for which a lightweight POJO and dedicated lookup methods are generated.
+     * Instances are immutable.
+     */
+    public static final class ProjectionInfo {
+        /**
+         * The Java name of the projection (e.g., "Summary"), used in POJO and method names.
+         */
+        public final String name;
+
+        /**
+         * The database names of the projected columns, in declaration order.
+         */
+        public final List<String> columnDbNames;
+
+        /**
+         * Constructs a new ProjectionInfo instance.
+         *
+         * @param name          The Java name of the projection (non-null).
+         * @param columnDbNames The database names of the projected columns (non-null, copied).
+         */
+        public ProjectionInfo(String name, List<String> columnDbNames) {
+            this.name = Objects.requireNonNull(name, "name cannot be null");
+            this.columnDbNames = List.copyOf(columnDbNames);
+        }
+
+        /**
+         * Returns a string representation of the projection, useful for debugging.
+         * Format: "name: [col1, col2, ...]"
+         *
+         * @return A descriptive string for this projection.
+         */
+        @Override
+        public String toString() {
+            return name + ": " + columnDbNames;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.test.generator.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A text template compiled once into a list of literal segments and placeholder slots.
+ * <p>
+ * Placeholders have the form <code>${key}</code> (a key being one or more characters other
+ * than '}'). Rendering is a single pass that appends the literals and the slot values into
+ * a builder reused by the calling thread, with one map lookup per distinct key. Keys missing
+ * from the value map are rendered as an empty string, so that no literal "${...}" is left in
+ * the generated code.
+ * </p>
+ * <p>
+ * Large outputs can instead be streamed with {@link #renderTo(Appendable, Map, Map)}, where
+ * some slots are filled by {@link Fragment}s writing directly to the output.
+ * </p>
+ * Instances are immutable and thread-safe.
+ * Make class final as it's not designed for extension.
+ */
+public final class Template {
+    /**
+     * Builders above this capacity (in characters) are not kept for reuse.
+     */
+    private static final int MAX_REUSED_CAPACITY = 1 << 20;
+
+    /**
+     * Per-thread builder reused across renderings.
+     */
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(8192));
+
+    /**
+     * The template source text.
+     */
+    private final String source;
+
+    /**
+     * The literal segments: {@code literals[i]} precedes slot {@code i}, and the last
+     * literal follows the last slot ({@code literals.length == slots.length + 1}).
+     */
+    private final String[] literals;
+
+    /**
+     * For each slot, the index of its key in {@link #keys}.
+     */
+    private final int[] slots;
+
+    /**
+     * The distinct placeholder keys, in order of first appearance.
+     */
+    private final String[] keys;
+
+    /**
+     * Total length of the literal segments, used to size the output.
+     */
+    private final int literalLength;
+
+    private Template(String source, String[] literals, int[] slots, String[] keys) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.keys = keys;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compiles a template text.
+     *
+     * @param source The template text containing <code>${key}</code> placeholders.
+     * @return The compiled template.
+     */
+    public static Template compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        Map<String, Integer> keyIndexes = new LinkedHashMap<>();
+
+        int literalStart = 0;
+        int from = 0;
+        int open;
+        while ((open = source.indexOf("${", from)) >= 0) {
+            int close = source.indexOf('}', open + 2);
+            if (close < 0) {
+                break;
+            }
+            if (close == open + 2) {
+                // "${}" is not a placeholder: keep it as literal text.
+                from = close + 1;
+                continue;
+            }
+            String key = source.substring(open + 2, close);
+            literals.add(source.substring(literalStart, open));
+            slots.add(keyIndexes.computeIfAbsent(key, k -> keyIndexes.size()));
+            literalStart = close + 1;
+            from = literalStart;
+        }
+        literals.add(source.substring(literalStart));
+
+        return new Template(source,
+            literals.toArray(new String[0]),
+            slots.stream().mapToInt(Integer::intValue).toArray(),
+            keyIndexes.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Returns the template source text.
+     *
+     * @return The text the template was compiled from.
+     */
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param values The placeholder values, by key (without <code>${}</code>).
+     * @return The rendered text.
+     */
+    public String render(Map<String, String> values) {
+        // Resolve each distinct key once.
+        String[] resolved = new String[keys.length];
+        int capacity = literalLength;
+        for (int i = 0; i < keys.length; i++) {
+            String value = values.get(keys[i]);
+            resolved[i] = (value == null) ? "" : value;
+            capacity += resolved[i].length();
+        }
+
+        StringBuilder sb = BUILDER.get();
+        sb.setLength(0);
+        sb.ensureCapacity(capacity);
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(literals[i]).append(resolved[slots[i]]);
+        }
+        sb.append(literals[slots.length]);
+        String result = sb.toString();
+
+        // Do not pin an oversized buffer to the thread.
+        if (sb.capacity() > MAX_REUSED_CAPACITY) {
+            BUILDER.remove();
+        }
+        return result;
+    }
+
+    /**
+     * Renders the template directly to an output (typically a buffered {@link java.io.Writer}),
+     * without building the result in memory.
+     *
+     * @param out       The output to append to.
+     * @param values    The placeholder values, by key (without <code>${}</code>).
+     * @param fragments The placeholders written by a fragment, by key; they take precedence
+     *                  over {@code values}.
+     * @throws IOException if the output fails.
+     */
+    public void renderTo(Appendable out, Map<String, String> values, Map<String, Fragment> fragments) throws IOException {
+        // Resolve each distinct key once.
+        Object[] resolved = new Object[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            Fragment fragment = fragments.get(keys[i]);
+            resolved[i] = (fragment != null) ? fragment : values.get(keys[i]);
+        }
+
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            Object value = resolved[slots[i]];
+            if (value instanceof Fragment) {
+                ((Fragment) value).writeTo(out);
+            } else if (value != null) {
+                out.append((String) value);
+            }
+        }
+        out.append(literals[slots.length]);
+    }
+
+    /**
+     * A piece of output written directly to the rendered stream.
+     */
+    @FunctionalInterface
+    public interface Fragment {
+        /**
+         * Writes this fragment.
+         *
+         * @param out The output to append to.
+         * @throws IOException if the output fails.
+         */
+        void writeTo(Appendable out) throws IOException;
+    }
+
+    @Override
+    public String toString() {
+        return "Template[" + slots.length + " slot(s), " + keys.length + " key(s)]";
+    }
+}
@@ -120,4 +120,216 @@ public final class Type {
         // Fallback to Object for unknown types.
         return "Object";
     }
+
+    /**
+     * Converts a MySQL column type, as found in {@code information_schema.COLUMNS}, into the
+     * JDBC SQL type constant that MySQL Connector/J reports for it in
+     * {@link java.sql.DatabaseMetaData#getColumns}, so that bulk introspection maps columns
+     * exactly like the per-table metadata calls.
+     * <p>
+     * With the driver defaults ({@code tinyInt1isBit=true}, {@code yearIsDateType=true}),
+     * {@code TINYINT(1)} is reported as {@code BIT} and {@code YEAR} as {@code DATE}.
+     * Unsigned variants keep the JDBC type of their signed counterpart.
+     * </p>
+     *
+     * @param dataType   The DATA_TYPE column (e.g., "varchar", "int").
+     * @param columnType The COLUMN_TYPE column (e.g., "varchar(45)", "tinyint(1)"), may be null.
+     * @return An integer constant from {@link java.sql.Types}, or {@link Types#OTHER} if unknown.
+     */
+    public static int fromMySqlType(String dataType, String columnType) {
+        switch (dataType.toLowerCase()) {
+            case "bit":
+                return Types.BIT;
+            case "tinyint":
+                return (columnType != null && columnType.toLowerCase().startsWith("tinyint(1)")) ? Types.BIT : Types.TINYINT;
+            case "bool":
+            case "boolean":
+                return Types.BIT;
+            case "smallint":
+                return Types.SMALLINT;
+            case "mediumint":
+            case "int":
+            case "integer":
+                return Types.INTEGER;
+            case "bigint":
+                return Types.BIGINT;
+            case "float":
+                return Types.REAL;
+            case "double":
+            case "real":
+                return Types.DOUBLE;
+            case "decimal":
+            case "numeric":
+                return Types.DECIMAL;
+            case "date":
+            case "year":
+                return Types.DATE;
+            case "time":
+                return Types.TIME;
+            case "datetime":
+            case "timestamp":
+                return Types.TIMESTAMP;
+            case "char":
+            case "enum":
+            case "set":
+                return Types.CHAR;
+            case "varchar":
+            case "tinytext":
+                return Types.VARCHAR;
+            case "text":
+            case "mediumtext":
+            case "longtext":
+            case "json":
+                return Types.LONGVARCHAR;
+            case "binary":
+            case "geometry":
+                return Types.BINARY;
+            case "varbinary":
+            case "tinyblob":
+                return Types.VARBINARY;
+            case "blob":
+            case "mediumblob":
+            case "longblob":
+                return Types.LONGVARBINARY;
+            default:
+                return Types.OTHER;
+        }
+    }
+
+    /**
+     * Tells whether a JDBC SQL type is a large object type (CLOB, BLOB, or the
+     * LONGVARCHAR/LONGVARBINARY types that MySQL drivers report for TEXT and BLOB columns).
+     * Such columns are skipped by the LOB-free projection variants of the generated DAOs.
+     *
+     * @param sqlType An integer constant from {@link java.sql.Types}.
+     * @return True for large object types, false otherwise.
+     */
+    public static boolean isLob(int sqlType) {
+        switch (sqlType) {
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.BLOB:
+            case Types.LONGVARCHAR:
+            case Types.LONGNVARCHAR:
+            case Types.LONGVARBINARY:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the name of the type-specific {@link java.sql.ResultSet} getter used to read
+     * a column mapped to the given Java type (as returned by {@link #toJavaType(int)}).
+     * <p>
+     * For wrapper types ({@code Integer}, {@code Long}, ...), the getter returns a primitive
+     * and the caller must check {@code wasNull()}; see {@link #toPrimitiveType(String)}.
+     * </p>
+     *
+     * @param javaType The Java type name of the column (e.g., "Integer", "java.math.BigDecimal").
+     * @return The getter name (e.g., "getInt", "getBigDecimal"), or "getObject" for unmapped types.
+     */
+    public static String toResultSetGetter(String javaType) {
+        switch (javaType) {
+            case "String":
+                return "getString";
+            case "Integer":
+            case "int":
+                return "getInt";
+            case "Long":
+            case "long":
+                return "getLong";
+            case "Float":
+            case "float":
+                return "getFloat";
+            case "Double":
+            case "double":
+                return "getDouble";
+            case "Boolean":
+            case "boolean":
+                return "getBoolean";
+            case "java.math.BigDecimal":
+                return "getBigDecimal";
+            case "java.sql.Date":
+                return "getDate";
+            case "java.sql.Time":
+                return "getTime";
+            case "java.sql.Timestamp":
+                return "getTimestamp";
+            case "byte[]":
+                return "getBytes";
+            default:
+                return "getObject";
+        }
+    }
+
+    /**
+     * Returns the primitive type read by {@link #toResultSetGetter(String)} for a wrapper type.
+     * This is also the primitive type used for NOT NULL columns when the generator maps them
+     * to primitive fields.
+     *
+     * @param javaType The Java type name of the column (e.g., "Integer").
+     * @return The primitive type name (e.g., "int"), or null if the getter already returns
+     *         a reference type that is null for SQL {@code NULL} values.
+     */
+    public static String toPrimitiveType(String javaType) {
+        switch (javaType) {
+            case "Integer":
+                return "int";
+            case "Long":
+                return "long";
+            case "Float":
+                return "float";
+            case "Double":
+                return "double";
+            case "Boolean":
+                return "boolean";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Tells whether a Java type name (as used in generated code) is a primitive type.
+     *
+     * @param javaType The Java type name (e.g., "int", "Integer").
+     * @return True for "int", "long", "float", "double" and "boolean", false otherwise.
+     */
+    public static boolean isPrimitive(String javaType) {
+        switch (javaType) {
+            case "int":
+            case "long":
+            case "float":
+            case "double":
+            case "boolean":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the name of the {@link java.sql.PreparedStatement} setter used to bind a value
+     * of the given Java type. Primitive values use their type-specific setter to avoid boxing;
+     * all other types use {@code setObject}, which also handles {@code null}.
+     *
+     * @param javaType The Java type name of the value (e.g., "int", "String").
+     * @return The setter name (e.g., "setInt", "setObject").
+     */
+    public static String toPreparedStatementSetter(String javaType) {
+        switch (javaType) {
+            case "int":
+                return "setInt";
+            case "long":
+                return "setLong";
+            case "float":
+                return "setFloat";
+            case "double":
+                return "setDouble";
+            case "boolean":
+                return "setBoolean";
+            default:
+                return "setObject";
+        }
+    }
 }
\ No newline at end of file